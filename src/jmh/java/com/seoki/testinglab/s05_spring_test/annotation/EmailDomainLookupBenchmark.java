@@ -0,0 +1,55 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 도메인 조회 방식 비교 벤치마크 (1M 행)
+ *
+ * - likeSuffix: email LIKE '%도메인' → 전체 스캔
+ * - indexedDomain: email_domain = '도메인' → 인덱스 조회
+ *
+ * 실행:
+ * ./gradlew jmh -PjmhIncludes=EmailDomainLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailDomainLookupBenchmark {
+
+    @Param({"1000000"})
+    int rows;
+
+    @Param({"example42.com"})
+    String domain;
+
+    MemberBenchmarkContext context;
+
+    MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MemberBenchmarkContext.start("email-domain-lookup-" + rows);
+        context.seed(rows);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void likeSuffix(Blackhole blackhole) {
+        blackhole.consume(memberRepository.findByEmailDomainUsingLike(domain));
+    }
+
+    @Benchmark
+    public void indexedDomain(Blackhole blackhole) {
+        blackhole.consume(memberRepository.findByEmailDomain(domain));
+    }
+}
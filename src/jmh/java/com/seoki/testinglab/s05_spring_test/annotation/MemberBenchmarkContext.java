@@ -0,0 +1,101 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JMH 벤치마크용 최소 Spring 컨텍스트
+ *
+ * - 웹 서버 없이 JPA + H2만 구성
+ * - 데이터 적재는 JDBC 배치로 수행 (em.persist 루프는 1M 행에서 비현실적)
+ * - 시드 데이터 규칙:
+ *   name  = "name-{i}"
+ *   email = "user{i}@example{i % 100}.com"
+ */
+final class MemberBenchmarkContext implements AutoCloseable {
+
+    static final int DOMAIN_COUNT = 100;
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private final ConfigurableApplicationContext context;
+
+    private MemberBenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static MemberBenchmarkContext start(String databaseName, String... profiles) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .profiles(profiles)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+        return new MemberBenchmarkContext(context);
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    void seed(int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {nameOf(i), emailOf(i), domainOf(i), createdAt});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(jdbcTemplate, batch);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO members (name, email, email_domain, created_at) VALUES (?, ?, ?, ?)", batch);
+    }
+
+    static String nameOf(int i) {
+        return "name-" + i;
+    }
+
+    static String emailOf(int i) {
+        return "user" + i + "@" + domainOf(i);
+    }
+
+    static String domainOf(int i) {
+        return "example" + (i % DOMAIN_COUNT) + ".com";
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Member.class)
+    @EnableJpaRepositories(basePackageClasses = MemberRepository.class)
+    static class BenchmarkConfig {}
+}
@@ -0,0 +1,91 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 대량 INSERT 방식 비교 벤치마크
+ *
+ * - identitySaveAll: IDENTITY 전략 + saveAll → 행마다 INSERT 왕복 (배치 불가)
+ * - sequenceSaveAll: SEQUENCE(pooled) 전략 + saveAll → hibernate.jdbc.batch_size 단위 배치
+ * - jdbcInsertAllInBatch: JDBC 배치 직접 실행 → 영속성 컨텍스트 비용도 없음
+ *
+ * 실행:
+ * ./gradlew jmh -PjmhIncludes=MemberBulkInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MemberBulkInsertBenchmark {
+
+    @Param({"10000"})
+    int rows;
+
+    @Param({"100", "1000"})
+    int batchSize;
+
+    MemberBenchmarkContext context;
+
+    MemberRepository memberRepository;
+
+    SequenceMemberRepository sequenceMemberRepository;
+
+    JdbcTemplate jdbcTemplate;
+
+    int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MemberBenchmarkContext.start("member-bulk-insert");
+        memberRepository = context.getBean(MemberRepository.class);
+        sequenceMemberRepository = context.getBean(SequenceMemberRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE members");
+        jdbcTemplate.execute("TRUNCATE TABLE sequence_members");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void identitySaveAll() {
+        int offset = nextOffset();
+        memberRepository.saveAll(IntStream.range(offset, offset + rows)
+                .mapToObj(i -> new Member(MemberBenchmarkContext.nameOf(i), MemberBenchmarkContext.emailOf(i)))
+                .toList());
+    }
+
+    @Benchmark
+    public void sequenceSaveAll() {
+        int offset = nextOffset();
+        sequenceMemberRepository.saveAll(IntStream.range(offset, offset + rows)
+                .mapToObj(i -> new SequenceMember(MemberBenchmarkContext.nameOf(i), MemberBenchmarkContext.emailOf(i)))
+                .toList());
+    }
+
+    @Benchmark
+    public void jdbcInsertAllInBatch() {
+        int offset = nextOffset();
+        List<Member> members = IntStream.range(offset, offset + rows)
+                .mapToObj(i -> new Member(MemberBenchmarkContext.nameOf(i), MemberBenchmarkContext.emailOf(i)))
+                .toList();
+        memberRepository.insertAllInBatch(members, batchSize);
+    }
+
+    // email UNIQUE 제약 때문에 호출마다 다른 구간의 행을 생성
+    private int nextOffset() {
+        return rows * round++;
+    }
+}
@@ -0,0 +1,101 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 이메일 조회 2차 캐시 벤치마크 (cold vs warm)
+ *
+ * - cold: 매 호출 전에 캐시를 비움 → 항상 DB 조회
+ * - warm: 조회 대상 이메일이 모두 캐시에 있음 → DB 접근 없음
+ *
+ * 실행:
+ * ./gradlew jmh -PjmhIncludes=MemberCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberCacheBenchmark {
+
+    @Param({"100000"})
+    int rows;
+
+    // 캐시에 올려둘 이메일 수 (members 리전 최대 크기 이하)
+    @Param({"1000"})
+    int hotEmails;
+
+    MemberBenchmarkContext context;
+
+    MemberRepository memberRepository;
+
+    EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MemberBenchmarkContext.start("member-cache-" + rows, "member-cache");
+        context.seed(rows);
+        memberRepository = context.getBean(MemberRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Cold {
+
+        @Setup(Level.Invocation)
+        public void evict(MemberCacheBenchmark benchmark) {
+            benchmark.entityManagerFactory.getCache().evictAll();
+            benchmark.entityManagerFactory
+                    .unwrap(SessionFactory.class)
+                    .getCache()
+                    .evictQueryRegion(Member.EMAIL_QUERY_CACHE_REGION);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Warm {
+
+        @Setup(Level.Trial)
+        public void load(MemberCacheBenchmark benchmark) {
+            for (int i = 0; i < benchmark.hotEmails; i++) {
+                benchmark.memberRepository.findByEmail(MemberBenchmarkContext.emailOf(i));
+                benchmark.memberRepository.existsByEmail(MemberBenchmarkContext.emailOf(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public void findByEmailCold(Cold cold, Blackhole blackhole) {
+        blackhole.consume(memberRepository.findByEmail(hotEmail()));
+    }
+
+    @Benchmark
+    public void findByEmailWarm(Warm warm, Blackhole blackhole) {
+        blackhole.consume(memberRepository.findByEmail(hotEmail()));
+    }
+
+    @Benchmark
+    public void existsByEmailCold(Cold cold, Blackhole blackhole) {
+        blackhole.consume(memberRepository.existsByEmail(hotEmail()));
+    }
+
+    @Benchmark
+    public void existsByEmailWarm(Warm warm, Blackhole blackhole) {
+        blackhole.consume(memberRepository.existsByEmail(hotEmail()));
+    }
+
+    private String hotEmail() {
+        return MemberBenchmarkContext.emailOf(ThreadLocalRandom.current().nextInt(hotEmails));
+    }
+}
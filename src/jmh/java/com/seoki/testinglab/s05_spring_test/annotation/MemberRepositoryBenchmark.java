@@ -0,0 +1,89 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * MemberRepository 쿼리 메서드 벤치마크
+ *
+ * - 10k / 100k / 1M 행에서 각 쿼리의 처리량(thrpt)과 지연 분포(sample)를 측정
+ * - 쿼리를 바꾸기 전/후 수치를 비교하는 기준선으로 사용
+ *
+ * 실행:
+ * ./gradlew jmh -PjmhIncludes=MemberRepositoryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberRepositoryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    MemberBenchmarkContext context;
+
+    MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MemberBenchmarkContext.start("member-repository-" + rows);
+        context.seed(rows);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void findByNameStartingWith(Blackhole blackhole) {
+        // "name-999" 접두사: 10k → 11건, 100k → 111건, 1M → 1,111건
+        blackhole.consume(memberRepository.findByNameStartingWith("name-999"));
+    }
+
+    @Benchmark
+    public void findSummariesByNameStartingWith(Blackhole blackhole) {
+        blackhole.consume(memberRepository.findSummariesByNameStartingWith("name-999"));
+    }
+
+    @Benchmark
+    public void existsByEmail(Blackhole blackhole) {
+        blackhole.consume(memberRepository.existsByEmail(randomEmail()));
+    }
+
+    @Benchmark
+    public void existsByEmailMiss(Blackhole blackhole) {
+        blackhole.consume(memberRepository.existsByEmail("nobody@nowhere.com"));
+    }
+
+    @Benchmark
+    public void findByEmail(Blackhole blackhole) {
+        blackhole.consume(memberRepository.findByEmail(randomEmail()));
+    }
+
+    @Benchmark
+    public void findByEmailDomain(Blackhole blackhole) {
+        // 도메인 100개에 고르게 분포 → 전체의 1%가 결과
+        blackhole.consume(memberRepository.findByEmailDomain("example42.com"));
+    }
+
+    @Benchmark
+    public void findSummariesByEmailDomain(Blackhole blackhole) {
+        blackhole.consume(memberRepository.findSummariesByEmailDomain("example42.com"));
+    }
+
+    @Benchmark
+    public void countAllNative(Blackhole blackhole) {
+        blackhole.consume(memberRepository.countAllNative());
+    }
+
+    private String randomEmail() {
+        return MemberBenchmarkContext.emailOf(ThreadLocalRandom.current().nextInt(rows));
+    }
+}
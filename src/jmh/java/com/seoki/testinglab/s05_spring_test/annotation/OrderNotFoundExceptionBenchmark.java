@@ -0,0 +1,43 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import com.seoki.testinglab.s05_spring_test.annotation.WebMvcTestTest.OrderNotFoundException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 404 예외 생성 비용 벤치마크
+ *
+ * - fillInStackTrace 비용은 스택 깊이에 비례 → 웹 요청 처리 중의 깊이(수십~백여 프레임)를 재귀로 흉내
+ * - withStackTrace: 기존 생성자 / stackless: 스택 트레이스 없는 팩토리
+ *
+ * 실행:
+ * ./gradlew jmh -PjmhIncludes=OrderNotFoundExceptionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderNotFoundExceptionBenchmark {
+
+    @Param({"10", "100"})
+    int stackDepth;
+
+    @Benchmark
+    public OrderNotFoundException withStackTrace() {
+        return atDepth(stackDepth, false);
+    }
+
+    @Benchmark
+    public OrderNotFoundException stackless() {
+        return atDepth(stackDepth, true);
+    }
+
+    private static OrderNotFoundException atDepth(int depth, boolean stackless) {
+        if (depth > 0) {
+            return atDepth(depth - 1, stackless);
+        }
+        return stackless ? OrderNotFoundException.stackless(404L) : new OrderNotFoundException(404L);
+    }
+}
@@ -0,0 +1,74 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import com.seoki.testinglab.s05_spring_test.annotation.WebMvcTestTest.Order;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 주문 단건 조회 single-flight 벤치마크
+ *
+ * - 32개 스레드가 소수의 인기 주문(hotKeys)을 동시에 조회하는 상황 (플래시 세일)
+ * - 저장소 조회는 1ms 블로킹으로 흉내
+ * - backendCalls 보조 카운터: 실제 저장소 호출 횟수 (ops 대비 비율이 핵심 지표)
+ *   direct는 ops와 같고, singleFlight는 동시 요청이 몰릴수록 작아짐
+ *
+ * 실행:
+ * ./gradlew jmh -PjmhIncludes=SingleFlightBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class SingleFlightBenchmark {
+
+    static final long BACKEND_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"1", "10", "1000"})
+    int hotKeys;
+
+    SingleFlight<Long, Optional<Order>> singleFlight;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        singleFlight = new SingleFlight<>();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class BackendCalls {
+
+        public long backendCalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            backendCalls = 0;
+        }
+    }
+
+    @Benchmark
+    public Optional<Order> direct(BackendCalls calls) {
+        return load(randomId(), calls);
+    }
+
+    @Benchmark
+    public Optional<Order> singleFlight(BackendCalls calls) {
+        long id = randomId();
+        return singleFlight.execute(id, () -> load(id, calls));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(hotKeys);
+    }
+
+    private static Optional<Order> load(long id, BackendCalls calls) {
+        calls.backendCalls++;
+        LockSupport.parkNanos(BACKEND_LATENCY_NANOS);
+        return Optional.of(new Order(id, "상품" + id, 10000));
+    }
+}
@@ -1,9 +1,9 @@
 package com.seoki.testinglab;
 
+import com.seoki.testinglab.support.context.SharedSpringBootTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SharedSpringBootTest
 public class TestingLabApplicationTests {
 
     @Test
@@ -2,11 +2,14 @@ package com.seoki.testinglab.s01_junit;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.seoki.testinglab.support.parallel.SharedResources;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.LIFE_CYCLE_LOG)
 public class LifeCycleTest {
 
     private static List<String> log = new ArrayList<>();
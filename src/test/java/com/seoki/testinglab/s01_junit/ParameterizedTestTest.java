@@ -2,6 +2,7 @@ package com.seoki.testinglab.s01_junit;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.seoki.testinglab.support.params.MappedCsvFileSource;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
@@ -209,6 +210,17 @@ public class ParameterizedTestTest {
             assertThat(name).isNotBlank();
             assertThat(age).isPositive();
         }
+
+        /**
+         * 수백만 행 CSV는 @MappedCsvFileSource (같은 속성, 메모리 맵에서 바로 파싱)
+         * - 둘 다 한 행씩 읽음 → 차이는 읽기 버퍼 복사 생략과 필드 길이 제한(maxCharsPerColumn) 없음
+         */
+        @ParameterizedTest
+        @MappedCsvFileSource(resources = "/test-csv-file-source.csv", numLinesToSkip = 1)
+        void 대용량_CSV는_메모리_맵으로_한_행씩_읽기(String name, int age) {
+            assertThat(name).isNotBlank();
+            assertThat(age).isPositive();
+        }
     }
 
     @Nested
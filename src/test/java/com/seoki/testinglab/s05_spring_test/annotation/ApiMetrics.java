@@ -0,0 +1,67 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 컨트롤러 지표 (Micrometer)
+ *
+ * - 지연 시간 백분위, 4xx/5xx 수: Spring Boot가 자동 기록하는 http.server.requests (uri, status, outcome 태그)
+ *   → 같은 값을 두 번 재지 않도록 여기서는 http.server.requests로 알 수 없는 것만 기록
+ * - api.response.items: 응답 한 번에 담긴 항목 수 (목록, 페이지, 일괄 생성)
+ * - api.lookups: 단건 조회 결과 (found, not_found, negative_cache)
+ * - 캐시/큐 상태: 기존 카운터를 그대로 읽는 Gauge, FunctionCounter (요청 경로에 추가 비용 없음)
+ *
+ * MeterRegistry 빈이 없으면(@WebMvcTest 슬라이스) 하위 레지스트리가 없는 CompositeMeterRegistry
+ * → 미터는 만들어지지만 아무것도 기록하지 않음
+ */
+final class ApiMetrics {
+
+    static final String RESPONSE_ITEMS = "api.response.items";
+
+    static final String LOOKUPS = "api.lookups";
+
+    private final MeterRegistry registry;
+
+    private final String api;
+
+    ApiMetrics(ObjectProvider<MeterRegistry> registries, String api) {
+        this.registry = registries.getIfAvailable(CompositeMeterRegistry::new);
+        this.api = api;
+    }
+
+    /**
+     * 요청마다 builder로 찾지 않도록 엔드포인트별로 한 번만 만들어 필드에 보관
+     */
+    DistributionSummary responseItems(String endpoint) {
+        return DistributionSummary.builder(RESPONSE_ITEMS)
+                .description("Number of items in a single response")
+                .baseUnit("items")
+                .tags("api", api, "endpoint", endpoint)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    Counter lookups(String result) {
+        return Counter.builder(LOOKUPS)
+                .description("Single item lookups by result")
+                .tags("api", api, "result", result)
+                .register(registry);
+    }
+
+    <T> void gauge(String name, T target, ToDoubleFunction<T> value) {
+        // Gauge는 target을 약한 참조로 보관 → target은 컨트롤러 필드로 살아 있어야 함
+        Gauge.builder(name, target, value).tag("api", api).register(registry);
+    }
+
+    <T> void functionCounter(String name, T target, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, target, count).tag("api", api).register(registry);
+    }
+}
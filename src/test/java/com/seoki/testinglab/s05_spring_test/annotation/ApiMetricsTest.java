@@ -0,0 +1,128 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.context.SharedWebServerTest;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 컨트롤러/리포지토리 지표 + /actuator/metrics 노출 테스트
+ *
+ * - 컨텍스트를 공유하는 다른 테스트도 같은 미터를 올리므로 전후 차이가 "최소" 얼마인지로 검증
+ * - http.server.requests는 응답을 보낸 뒤 기록될 수 있어 값 대신 엔드포인트 노출만 확인
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ApiMetricsTest {
+
+    @Nested
+    class 결과_크기 {
+
+        @Test
+        void 컬렉션_Slice_Optional만_크기를_잰다() {
+            assertThat(RepositoryResultMetrics.sizeOf(List.of(1, 2, 3))).isEqualTo(3);
+            assertThat(RepositoryResultMetrics.sizeOf(new PageImpl<>(List.of(1, 2)))).isEqualTo(2);
+            assertThat(RepositoryResultMetrics.sizeOf(Optional.empty())).isZero();
+            assertThat(RepositoryResultMetrics.sizeOf(Optional.of(1))).isEqualTo(1);
+            assertThat(RepositoryResultMetrics.sizeOf(42L)).isEqualTo(-1);
+            assertThat(RepositoryResultMetrics.sizeOf(null)).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @SharedWebServerTest
+    class 전체_컨텍스트 {
+
+        static final long MISSING_ORDER_ID = 9_876_543L;
+
+        @Autowired
+        TestRestTemplate restTemplate;
+
+        @Autowired
+        MeterRegistry meterRegistry;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Test
+        void 목록_응답의_항목_수를_기록한다() {
+            long before = responseItemsCount();
+
+            restTemplate.getForEntity("/api/orders", String.class);
+
+            assertThat(responseItemsCount()).isGreaterThanOrEqualTo(before + 1);
+        }
+
+        @Test
+        void 없는_주문_조회를_not_found로_기록한다() {
+            double notFound = lookups("not_found");
+
+            ResponseEntity<String> response =
+                    restTemplate.getForEntity("/api/orders/" + MISSING_ORDER_ID, String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(lookups("not_found")).isGreaterThanOrEqualTo(notFound + 1);
+        }
+
+        @Test
+        void 리포지토리_메서드의_호출_시간_결과_크기_SQL_실행_수를_기록한다() {
+            memberRepository.findByNameStartingWith("지표");
+
+            Search method = meterRegistry.find("spring.data.repository.invocations")
+                    .tags("repository", "MemberRepository", "method", "findByNameStartingWith");
+            assertThat(method.timer()).isNotNull();
+            assertThat(method.timer().count()).isPositive();
+
+            assertThat(meterRegistry
+                            .get(RepositoryResultMetrics.RESULTS)
+                            .tags("repository", "MemberRepository", "method", "findByNameStartingWith")
+                            .summary()
+                            .count())
+                    .isPositive();
+
+            FunctionCounter prepared = meterRegistry
+                    .get("hibernate.statements")
+                    .tags("status", "prepared")
+                    .functionCounter();
+            assertThat(prepared.count()).isPositive();
+        }
+
+        @Test
+        void actuator_metrics_엔드포인트로_노출된다() {
+            restTemplate.getForEntity("/api/orders", String.class);
+
+            ResponseEntity<String> names = restTemplate.getForEntity("/actuator/metrics", String.class);
+            ResponseEntity<String> items = restTemplate.getForEntity(
+                    "/actuator/metrics/" + ApiMetrics.RESPONSE_ITEMS + "?tag=api:orders", String.class);
+
+            assertThat(names.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(names.getBody()).contains(ApiMetrics.LOOKUPS, ApiMetrics.RESPONSE_ITEMS);
+            assertThat(items.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        private long responseItemsCount() {
+            return meterRegistry
+                    .get(ApiMetrics.RESPONSE_ITEMS)
+                    .tags("api", "orders", "endpoint", "findAll")
+                    .summary()
+                    .count();
+        }
+
+        private double lookups(String result) {
+            return meterRegistry
+                    .get(ApiMetrics.LOOKUPS)
+                    .tags("api", "orders", "result", result)
+                    .counter()
+                    .count();
+        }
+    }
+}
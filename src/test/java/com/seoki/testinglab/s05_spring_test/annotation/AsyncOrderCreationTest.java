@@ -0,0 +1,185 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * 비동기 주문 생성 모드 테스트 (orders.creation.mode=async)
+ *
+ * 핵심 개념:
+ * - POST /api/orders → 큐에 넣고 즉시 202 + 추적 id (Location 헤더로 상태 조회 URL 안내)
+ * - 큐가 가득 차면 429 Too Many Requests (백프레셔)
+ * - GET /api/orders/requests/{id}: PENDING → CREATED / FAILED
+ * - GET /api/orders/queue: 큐 깊이와 처리 건수
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.ORDER_API_MOCKS)
+class AsyncOrderCreationTest {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Nested
+    @WebMvcTest(
+            controllers = OrderController.class,
+            properties = {"orders.creation.mode=async", "orders.creation.queue-capacity=1"})
+    class 비동기_모드 {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        ObjectMapper objectMapper;
+
+        @MockitoBean
+        OrderService orderService;
+
+        final CountDownLatch writerBlocked = new CountDownLatch(1);
+
+        final CountDownLatch releaseWriter = new CountDownLatch(1);
+
+        // 붙잡아 둔 writer를 풀고, 큐에 남은 요청이 다음 테스트의 목 Service를 호출하기 전에 모두 처리될 때까지 대기
+        @AfterEach
+        void tearDown() throws Exception {
+            releaseWriter.countDown();
+            awaitDrained();
+        }
+
+        @Test
+        void 생성_요청은_202와_추적_id를_반환하고_나중에_CREATED가_된다() throws Exception {
+            given(orderService.createAll(anyList())).willReturn(List.of(new Order(1L, "상품", 1000)));
+
+            String location = create(new OrderRequest("상품", 1000))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, startsWith("/api/orders/requests/")))
+                    .andExpect(jsonPath("$.state").value("PENDING"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.LOCATION);
+
+            JsonNode status = awaitCompletion(location);
+
+            assertThat(status.get("state").asText()).isEqualTo("CREATED");
+            assertThat(status.get("order").get("id").asLong()).isEqualTo(1L);
+            then(orderService).should(never()).create(any());
+        }
+
+        @Test
+        void 큐가_가득_차면_429() throws Exception {
+            given(orderService.createAll(anyList())).willAnswer(invocation -> {
+                writerBlocked.countDown();
+                releaseWriter.await();
+                List<OrderRequest> requests = invocation.getArgument(0);
+                return requests.stream()
+                        .map(request -> new Order(1L, request.productName(), request.amount()))
+                        .toList();
+            });
+
+            // 첫 요청은 writer가 꺼내 저장 중, 두 번째 요청이 큐(용량 1)를 채움
+            create(new OrderRequest("상품1", 1000)).andExpect(status().isAccepted());
+            assertThat(writerBlocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            create(new OrderRequest("상품2", 1000)).andExpect(status().isAccepted());
+
+            create(new OrderRequest("상품3", 1000)).andExpect(status().isTooManyRequests());
+            mockMvc.perform(get("/api/orders/queue"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.depth").value(1))
+                    .andExpect(jsonPath("$.capacity").value(1))
+                    .andExpect(jsonPath("$.rejected").value(1));
+        }
+
+        @Test
+        void 검증에_실패한_요청은_큐에_넣지_않고_400() throws Exception {
+            create(new OrderRequest("", 1000)).andExpect(status().isBadRequest());
+
+            then(orderService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void 알_수_없는_추적_id는_404() throws Exception {
+            mockMvc.perform(get("/api/orders/requests/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+        }
+
+        private ResultActions create(OrderRequest request) throws Exception {
+            return mockMvc.perform(post("/api/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        private JsonNode awaitCompletion(String location) throws Exception {
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                String body = mockMvc.perform(get(location))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+                JsonNode status = objectMapper.readTree(body);
+                if (!"PENDING".equals(status.get("state").asText())) {
+                    return status;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            }
+            throw new AssertionError("Not completed within " + TIMEOUT + ": " + location);
+        }
+
+        private void awaitDrained() throws Exception {
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                String body = mockMvc.perform(get("/api/orders/queue"))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+                JsonNode stats = objectMapper.readTree(body);
+                long done = stats.get("created").asLong() + stats.get("failed").asLong();
+                if (done == stats.get("accepted").asLong()) {
+                    return;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            }
+            throw new AssertionError("Queue not drained within " + TIMEOUT);
+        }
+    }
+
+    @Nested
+    @WebMvcTest(OrderController.class)
+    class 동기_모드_기본값 {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @MockitoBean
+        OrderService orderService;
+
+        @Test
+        void 큐_관련_엔드포인트는_404() throws Exception {
+            mockMvc.perform(get("/api/orders/queue")).andExpect(status().isNotFound());
+            mockMvc.perform(get("/api/orders/requests/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+        }
+    }
+}
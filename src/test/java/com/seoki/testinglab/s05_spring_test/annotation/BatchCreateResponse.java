@@ -0,0 +1,10 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+
+record BatchCreateResponse(int created, int invalid, List<BatchItemResult> results) {
+    static BatchCreateResponse of(List<BatchItemResult> results) {
+        int created = (int) results.stream().filter(result -> result.status() == BatchItemStatus.CREATED).count();
+        return new BatchCreateResponse(created, results.size() - created, results);
+    }
+}
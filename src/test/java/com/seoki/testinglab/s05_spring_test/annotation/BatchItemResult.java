@@ -0,0 +1,13 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+
+record BatchItemResult(int index, BatchItemStatus status, Order order, List<String> errors) {
+    static BatchItemResult created(int index, Order order) {
+        return new BatchItemResult(index, BatchItemStatus.CREATED, order, List.of());
+    }
+
+    static BatchItemResult invalid(int index, List<String> errors) {
+        return new BatchItemResult(index, BatchItemStatus.INVALID, null, errors);
+    }
+}
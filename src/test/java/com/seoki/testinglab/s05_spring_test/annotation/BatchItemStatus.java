@@ -0,0 +1,6 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+enum BatchItemStatus {
+    CREATED,
+    INVALID
+}
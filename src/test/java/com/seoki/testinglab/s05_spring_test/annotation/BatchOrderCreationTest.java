@@ -0,0 +1,124 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * POST /api/orders/batch 일괄 생성 테스트
+ *
+ * 핵심 개념:
+ * - 항목마다 @NotBlank/@Positive 검증 → 틀린 항목만 INVALID, 나머지는 생성
+ * - 유효한 항목은 OrderService.createAll 한 번으로 생성
+ * - 응답은 요청 순서(index)를 유지한 항목별 결과
+ */
+@WebMvcTest(OrderController.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.ORDER_API_MOCKS)
+class BatchOrderCreationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong ids = new AtomicLong();
+        given(orderService.createAll(anyList())).willAnswer(invocation -> {
+            List<OrderRequest> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> new Order(ids.incrementAndGet(), request.productName(), request.amount()))
+                    .toList();
+        });
+    }
+
+    @Test
+    void 모든_항목이_유효하면_한_번의_createAll로_생성된다() throws Exception {
+        postBatch(List.of(new OrderRequest("상품1", 1000), new OrderRequest("상품2", 2000)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.invalid").value(0))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].order.id").value(2));
+
+        then(orderService).should().createAll(anyList());
+        then(orderService).should(never()).create(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 유효하지_않은_항목만_INVALID로_응답하고_나머지는_생성된다() throws Exception {
+        postBatch(List.of(
+                        new OrderRequest("상품1", 1000), new OrderRequest("", 2000), new OrderRequest("상품3", -1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.invalid").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value(startsWith("productName")))
+                .andExpect(jsonPath("$.results[2].errors[0]").value(startsWith("amount")));
+
+        ArgumentCaptor<List<OrderRequest>> captor = ArgumentCaptor.forClass(List.class);
+        then(orderService).should().createAll(captor.capture());
+        assertThat(captor.getValue()).extracting(OrderRequest::productName).containsExactly("상품1");
+    }
+
+    @Test
+    void null_항목도_INVALID로_처리한다() throws Exception {
+        postBatch(Arrays.asList(new OrderRequest("상품1", 1000), null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"));
+    }
+
+    @Test
+    void 모든_항목이_유효하지_않으면_createAll을_호출하지_않는다() throws Exception {
+        postBatch(List.of(new OrderRequest("", 1000)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0));
+
+        then(orderService).should(never()).createAll(anyList());
+    }
+
+    @Test
+    void 빈_배열이나_최대_크기_초과는_400() throws Exception {
+        postBatch(List.of()).andExpect(status().isBadRequest());
+        postBatch(Collections.nCopies(OrderController.MAX_BATCH_SIZE + 1, new OrderRequest("상품", 1000)))
+                .andExpect(status().isBadRequest());
+
+        then(orderService).should(never()).createAll(anyList());
+    }
+
+    private ResultActions postBatch(List<OrderRequest> requests) throws Exception {
+        return mockMvc.perform(post("/api/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)));
+    }
+}
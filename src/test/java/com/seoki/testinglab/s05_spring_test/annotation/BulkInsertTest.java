@@ -0,0 +1,127 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+/**
+ * 대량 INSERT 학습 테스트
+ *
+ * 핵심 개념:
+ * - IDENTITY 전략은 INSERT 후에야 id를 알 수 있어 Hibernate JDBC 배치가 동작하지 않음
+ * - 대량 적재는 JDBC 배치(MemberBulkRepository) 또는 SEQUENCE 전략으로 해결
+ *
+ * 실무 포인트:
+ * - JDBC 배치는 영속성 컨텍스트를 거치지 않음 → id 미할당, 엔티티 콜백 미실행
+ * - SEQUENCE + pooled 옵티마이저는 id를 미리 확보해 hibernate.jdbc.batch_size가 적용됨
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
+public class BulkInsertTest {
+
+    @Nested
+    @DataJpaTest
+    class JDBC_배치_삽입 {
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Test
+        void 배치_크기_단위로_나눠서_모두_삽입된다() {
+            List<Member> members = members(25);
+
+            int inserted = memberRepository.insertAllInBatch(members, 10); // 10 + 10 + 5
+
+            assertThat(inserted).isEqualTo(25);
+            assertThat(memberRepository.countAllNative()).isEqualTo(25);
+        }
+
+        @Test
+        void id는_DB의_IDENTITY가_채운다() {
+            memberRepository.insertAllInBatch(members(3), 100);
+
+            assertThat(memberRepository.findByEmail("member0@bulk.com"))
+                    .get()
+                    .extracting(Member::getId)
+                    .isNotNull();
+        }
+
+        @Test
+        void 영속성_컨텍스트를_거치지_않아_전달한_엔티티의_id는_비어있다() {
+            List<Member> members = members(3);
+
+            memberRepository.insertAllInBatch(members, 100);
+
+            assertThat(members).extracting(Member::getId).containsOnlyNulls();
+        }
+
+        @Test
+        void 배치_크기는_양수여야_한다() {
+            // 리포지토리 프록시의 예외 변환이 IllegalArgumentException을 DataAccessException으로 감쌈
+            assertThatThrownBy(() -> memberRepository.insertAllInBatch(members(1), 0))
+                    .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    class id_전략_비교 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Test
+        void IDENTITY는_persist_시점에_INSERT가_실행된다() {
+            Member member = em.persist(new Member("아이덴티티", "identity@test.com"));
+
+            // flush 전인데도 id가 있음 = 이미 INSERT가 나갔다는 뜻
+            assertThat(member.getId()).isNotNull();
+        }
+
+        @Test
+        void SEQUENCE는_INSERT_없이_id를_먼저_할당한다() {
+            SequenceMember member = em.persist(new SequenceMember("시퀀스", "sequence@test.com"));
+
+            // id는 시퀀스에서 받고, INSERT는 flush 시점에 배치로 전송
+            assertThat(member.getId()).isNotNull();
+        }
+
+        @Test
+        void pooled_옵티마이저는_시퀀스_한_번에_id를_여러_개_확보한다() {
+            long before = nextSequenceValue();
+
+            List<Long> ids = IntStream.range(0, 20)
+                    .mapToObj(i -> em.persist(new SequenceMember("풀" + i, "pooled" + i + "@test.com")))
+                    .map(SequenceMember::getId)
+                    .toList();
+
+            // id 20개를 받는 동안 시퀀스는 그대로거나 50만큼 한 번 전진 (allocationSize = 1이면 20 전진)
+            assertThat(ids).doesNotHaveDuplicates();
+            assertThat(nextSequenceValue() - before).isIn(0L, 50L);
+        }
+
+        private long nextSequenceValue() {
+            Object value = em.getEntityManager()
+                    .createNativeQuery("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES"
+                            + " WHERE SEQUENCE_NAME = 'SEQUENCE_MEMBERS_SEQ'")
+                    .getSingleResult();
+            return ((Number) value).longValue();
+        }
+    }
+
+    private static List<Member> members(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Member("회원" + i, "member" + i + "@bulk.com"))
+                .toList();
+    }
+}
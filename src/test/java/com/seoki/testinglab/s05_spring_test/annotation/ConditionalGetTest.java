@@ -0,0 +1,184 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 조건부 GET (ETag / If-None-Match) 테스트
+ *
+ * 핵심 개념:
+ * - 응답에 내용 기반 strong ETag를 붙임
+ * - 클라이언트가 If-None-Match로 같은 ETag를 보내면 본문 없이 304 → 직렬화 생략
+ * - orders.response-cache.enabled=true면 Service 호출까지 생략, 주문 생성 시 무효화
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.ORDER_API_MOCKS)
+class ConditionalGetTest {
+
+    @Nested
+    @WebMvcTest({OrderController.class, ProductController.class})
+    class ETag_조건부_GET {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @MockitoBean
+        OrderService orderService;
+
+        @MockitoBean
+        ProductService productService;
+
+        @Test
+        void 단건_조회_응답에_ETag가_붙는다() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.of(new Order(1L, "상품", 1000)));
+
+            String etag = etagOf("/api/orders/1");
+
+            assertThat(etag).startsWith("\"").endsWith("\"");
+        }
+
+        @Test
+        void 같은_ETag로_요청하면_본문_없이_304() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.of(new Order(1L, "상품", 1000)));
+            String etag = etagOf("/api/orders/1");
+
+            mockMvc.perform(get("/api/orders/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        void 내용이_바뀌면_ETag도_바뀌어_200() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.of(new Order(1L, "상품", 1000)));
+            String before = etagOf("/api/orders/1");
+
+            given(orderService.findById(1L)).willReturn(Optional.of(new Order(1L, "상품", 2000)));
+
+            mockMvc.perform(get("/api/orders/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, before))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(before)))
+                    .andExpect(jsonPath("$.amount").value(2000));
+        }
+
+        @Test
+        void 없는_주문은_ETag_없이_404() throws Exception {
+            given(orderService.findById(999L)).willReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/orders/{id}", 999L))
+                    .andExpect(status().isNotFound())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        }
+
+        @Test
+        void 목록_조회도_304를_지원한다() throws Exception {
+            given(orderService.findAll()).willReturn(List.of(new Order(1L, "상품", 1000)));
+            given(productService.findAll()).willReturn(List.of(new Product(1L, "키보드", 30000)));
+
+            mockMvc.perform(get("/api/orders").header(HttpHeaders.IF_NONE_MATCH, etagOf("/api/orders")))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, etagOf("/api/products")))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        void 페이지_조회는_필드_선택까지_ETag에_반영된다() throws Exception {
+            given(orderService.findAllAfter(null, 11)).willReturn(List.of(new Order(1L, "상품", 1000)));
+
+            String all = etagOf("/api/orders?limit=10");
+            String idOnly = etagOf("/api/orders?limit=10&fields=id");
+
+            assertThat(all).isNotEqualTo(idOnly);
+            mockMvc.perform(get("/api/orders?limit=10&fields=id").header(HttpHeaders.IF_NONE_MATCH, idOnly))
+                    .andExpect(status().isNotModified());
+        }
+
+        private String etagOf(String uri) throws Exception {
+            return mockMvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+        }
+    }
+
+    @Nested
+    @WebMvcTest(controllers = OrderController.class, properties = "orders.response-cache.enabled=true")
+    class 응답_캐시 {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        ObjectMapper objectMapper;
+
+        @Autowired
+        OrderController orderController;
+
+        @MockitoBean
+        OrderService orderService;
+
+        // 컨텍스트(캐시 포함)는 테스트 사이에 재사용됨
+        @BeforeEach
+        void clearCaches() {
+            orderController.clearCaches();
+        }
+
+        @Test
+        void 캐시가_켜져_있으면_반복_조회에서_Service를_다시_호출하지_않는다() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.of(new Order(1L, "상품", 1000)));
+
+            for (int i = 0; i < 5; i++) {
+                mockMvc.perform(get("/api/orders/{id}", 1L)).andExpect(status().isOk());
+            }
+
+            then(orderService).should(times(1)).findById(1L);
+        }
+
+        @Test
+        void 주문을_생성하면_캐시가_무효화된다() throws Exception {
+            given(orderService.findAll()).willReturn(List.of());
+            mockMvc.perform(get("/api/orders")).andExpect(jsonPath("$.length()").value(0));
+
+            Order created = new Order(1L, "새 상품", 20000);
+            given(orderService.create(any(OrderRequest.class))).willReturn(created);
+            given(orderService.findAll()).willReturn(List.of(created));
+            mockMvc.perform(post("/api/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new OrderRequest("새 상품", 20000))))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get("/api/orders")).andExpect(jsonPath("$.length()").value(1));
+            then(orderService).should(times(2)).findAll();
+        }
+
+        @Test
+        void 없는_주문_404는_캐싱하지_않는다() throws Exception {
+            given(orderService.findById(999L)).willReturn(Optional.empty());
+
+            mockMvc.perform(get("/api/orders/{id}", 999L)).andExpect(status().isNotFound());
+            mockMvc.perform(get("/api/orders/{id}", 999L)).andExpect(status().isNotFound());
+
+            then(orderService).should(times(2)).findById(999L);
+        }
+    }
+}
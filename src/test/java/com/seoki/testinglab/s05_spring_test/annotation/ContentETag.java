@@ -0,0 +1,77 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * 응답 본문 내용으로 만드는 strong ETag
+ *
+ * - JSON으로 직렬화하지 않고 레코드 필드 값을 직접 해시 → 304 응답이면 직렬화 비용이 0
+ * - 지원 타입: Record(컴포넌트 순서대로), Collection(크기 + 원소), Map(키 + 값), 그 외 String.valueOf
+ * - 값마다 길이를 앞에 붙여서 ("ab", "c")와 ("a", "bc")가 같은 해시가 되지 않게 함
+ * - SHA-256 앞 128비트만 사용 (충돌 확률은 무시 가능, 헤더 길이는 절반)
+ *
+ * ShallowEtagHeaderFilter와의 차이:
+ * - 필터는 응답을 끝까지 직렬화한 뒤 바이트로 ETag를 계산 → 304여도 직렬화 비용은 그대로
+ */
+final class ContentETag {
+
+    private static final int ETAG_BYTES = 16;
+
+    private static final int NULL_LENGTH = -1;
+
+    private final MessageDigest digest;
+
+    private ContentETag() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String of(Object body) {
+        ContentETag etag = new ContentETag();
+        etag.add(body);
+        return etag.toHeaderValue();
+    }
+
+    private void add(Object value) {
+        if (value instanceof Record record) {
+            for (Method accessor : RecordAccessors.of(record.getClass())) {
+                add(RecordAccessors.read(accessor, record));
+            }
+        } else if (value instanceof Collection<?> collection) {
+            addLength(collection.size());
+            collection.forEach(this::add);
+        } else if (value instanceof Map<?, ?> map) {
+            addLength(map.size());
+            map.forEach((key, element) -> {
+                add(key);
+                add(element);
+            });
+        } else if (value == null) {
+            addLength(NULL_LENGTH);
+        } else {
+            byte[] bytes = String.valueOf(value).getBytes(UTF_8);
+            addLength(bytes.length);
+            digest.update(bytes);
+        }
+    }
+
+    private void addLength(int length) {
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+    }
+
+    private String toHeaderValue() {
+        return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), ETAG_BYTES)) + "\"";
+    }
+}
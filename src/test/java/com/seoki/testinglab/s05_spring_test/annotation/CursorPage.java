@@ -0,0 +1,30 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * - nextCursor: 다음 페이지 요청의 after 값 (마지막 페이지면 null)
+ * - OFFSET 없이 "id > after"로 이어서 조회하므로 페이지 깊이와 무관하게 비용이 일정
+ */
+record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    static final int MAX_LIMIT = 1000;
+
+    /**
+     * limit + 1건 조회한 결과로 페이지 구성 (한 건이 더 있으면 다음 페이지 존재)
+     */
+    static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, Long> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,117 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * /api/orders, /api/products 커서 페이지네이션 + sparse fieldset 테스트
+ *
+ * 핵심 개념:
+ * - limit 파라미터가 있으면 페이지 조회, 없으면 기존 전체 조회
+ * - Service에는 limit + 1건을 요청 → 초과분이 있으면 마지막 항목의 id가 nextCursor
+ * - fields 파라미터로 응답 필드를 제한
+ */
+@WebMvcTest({OrderController.class, ProductController.class})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.ORDER_API_MOCKS)
+class CursorPaginationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    OrderService orderService;
+
+    @MockitoBean
+    ProductService productService;
+
+    @Nested
+    class 커서_페이지 {
+
+        @Test
+        void 다음_페이지가_있으면_마지막_id가_nextCursor() throws Exception {
+            given(orderService.findAllAfter(null, 3)).willReturn(orders(1, 3));
+
+            mockMvc.perform(get("/api/orders").param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[1].id").value(2))
+                    .andExpect(jsonPath("$.nextCursor").value(2));
+            then(orderService).should(never()).findAll();
+        }
+
+        @Test
+        void 마지막_페이지면_nextCursor가_null() throws Exception {
+            given(orderService.findAllAfter(2L, 3)).willReturn(orders(3, 4));
+
+            mockMvc.perform(get("/api/orders").param("limit", "2").param("after", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].id").value(3))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void 상품도_같은_방식으로_페이지_조회() throws Exception {
+            given(productService.findAllAfter(isNull(), anyInt()))
+                    .willReturn(List.of(new Product(1L, "키보드", 30000), new Product(2L, "마우스", 10000)));
+
+            mockMvc.perform(get("/api/products").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").value(1));
+            then(productService).should(never()).findAll();
+        }
+
+        @Test
+        void limit_범위를_벗어나면_400() throws Exception {
+            mockMvc.perform(get("/api/orders").param("limit", "0")).andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/orders").param("limit", String.valueOf(CursorPage.MAX_LIMIT + 1)))
+                    .andExpect(status().isBadRequest());
+            then(orderService).should(never()).findAllAfter(any(), anyInt());
+        }
+    }
+
+    @Nested
+    class 필드_선택 {
+
+        @Test
+        void 요청한_필드만_응답에_포함된다() throws Exception {
+            given(orderService.findAllAfter(null, 11)).willReturn(orders(1, 1));
+
+            mockMvc.perform(get("/api/orders").param("limit", "10").param("fields", "amount,id"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(1))
+                    .andExpect(jsonPath("$.items[0].amount").value(1000))
+                    .andExpect(jsonPath("$.items[0].productName").doesNotExist());
+        }
+
+        @Test
+        void 알_수_없는_필드는_400() throws Exception {
+            mockMvc.perform(get("/api/products").param("limit", "10").param("fields", "id,stock"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private static List<Order> orders(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new Order(id, "상품" + id, (int) id * 1000))
+                .toList();
+    }
+}
@@ -1,12 +1,17 @@
 package com.seoki.testinglab.s05_spring_test.annotation;
 
+import static com.seoki.testinglab.support.sql.StatementAssert.assertThatStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.seoki.testinglab.support.parallel.SharedResources;
+import com.seoki.testinglab.support.sql.CountStatements;
+import com.seoki.testinglab.support.sql.ExecutedStatements;
 import jakarta.persistence.*;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -32,6 +37,7 @@ import org.springframework.web.bind.annotation.RestController;
  * - 실제 DB(MySQL)와 테스트용 DB(H2) 간 차이 주의
  */
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
 public class DataJpaTestTest {
 
     /**
@@ -307,6 +313,7 @@ public class DataJpaTestTest {
         @Test
         void SQL_로그_확인_가능() {
             // spring.jpa.show-sql=true 설정으로 콘솔에 SQL 출력
+            // 출력만 할 뿐 검증하지 않음 → 실행 횟수 검증은 SQL_실행_횟수_검증 참고
             memberRepository.save(new Member("SQL확인", "sql@test.com"));
             em.flush(); // INSERT 쿼리 확인 가능
 
@@ -314,6 +321,79 @@ public class DataJpaTestTest {
         }
     }
 
+    /**
+     * SQL 실행 횟수 검증 (@CountStatements)
+     * - 로그로 눈으로 확인하는 대신 횟수를 단언 → 쿼리가 늘어나는 회귀(N+1 등)를 테스트가 잡음
+     * - 테스트 본문에서 실행한 SQL만 셈 (@BeforeEach의 준비 데이터는 제외)
+     */
+    @Nested
+    @DataJpaTest
+    @CountStatements
+    class SQL_실행_횟수_검증 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        Long memberId;
+
+        @BeforeEach
+        void setUp() {
+            memberId = em.persistAndFlush(new Member("카운트", "count@test.com")).getId();
+            em.clear();
+        }
+
+        @Test
+        void 단건_조회는_SELECT_한_번() {
+            memberRepository.findById(memberId);
+
+            assertThatStatements().selects(1).inserts(0).updates(0);
+        }
+
+        @Test
+        void 같은_엔티티를_다시_조회하면_1차_캐시에서_꺼낸다() {
+            memberRepository.findById(memberId);
+            memberRepository.findById(memberId);
+
+            assertThatStatements().selects(1);
+        }
+
+        @Test
+        void 쿼리_메서드는_호출할_때마다_SELECT() {
+            memberRepository.findByNameStartingWith("카운");
+            memberRepository.findByNameStartingWith("카운");
+
+            assertThatStatements().selects(2);
+        }
+
+        @Test
+        void IDENTITY_전략은_save_시점에_INSERT() {
+            memberRepository.save(new Member("저장", "save@test.com"));
+
+            assertThatStatements().inserts(1).selects(0);
+        }
+
+        @Test
+        void deleteById는_삭제_전에_SELECT로_엔티티를_읽는다() {
+            memberRepository.deleteById(memberId);
+            em.flush();
+
+            assertThatStatements().selects(1).deletes(1);
+        }
+
+        @Test
+        void 중간부터_세려면_기록을_비운다() {
+            memberRepository.findById(memberId);
+            ExecutedStatements.reset();
+
+            memberRepository.existsByEmail("count@test.com");
+
+            assertThatStatements().selects(1).total(1);
+        }
+    }
+
     /**
      * 실무 Best Practice
      */
@@ -0,0 +1,89 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.s11_fixture.BulkFixtureLoader;
+import com.seoki.testinglab.support.snapshot.DatabaseSeed;
+import com.seoki.testinglab.support.snapshot.DatabaseSnapshot;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 스냅샷 복원 기반 격리 학습 테스트
+ *
+ * 핵심 개념:
+ * - @DataJpaTest 기본값은 테스트마다 롤백 → 커밋 시점 동작(PostCommit 이벤트, 카운터)은 실행되지 않음
+ * - 트랜잭션을 끄면(NOT_SUPPORTED) 데이터가 남음 → 지금까지는 setUp/tearDown에서 지우고 다시 적재
+ * - @DatabaseSnapshot: 시드를 한 번 적재해 스냅샷을 뜨고, 클래스 시작 전마다 스냅샷으로 복원
+ *
+ * 실무 포인트:
+ * - 큰 시드일수록 효과가 큼 (재적재 대신 RUNSCRIPT 한 번)
+ * - 복원은 클래스 단위 → 같은 클래스의 테스트는 서로의 커밋을 봄
+ * - DB를 직접 읽어 캐싱한 값은 복원을 모름 → 테스트에서 재조정 (리포지토리는 스냅샷을 모르게 유지)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DatabaseSnapshotTest {
+
+    static final int SEEDED_MEMBERS = 1_000;
+
+    static class ThousandMembers implements DatabaseSeed {
+
+        @Override
+        public void seed(JdbcTemplate jdbcTemplate) {
+            BulkFixtureLoader.loadMembers(jdbcTemplate, 42, SEEDED_MEMBERS);
+        }
+    }
+
+    /**
+     * 두 클래스가 같은 테스트를 실행 → 어느 쪽이 나중에 실행되든 앞 클래스의 커밋이 남아 있으면 실패
+     */
+    abstract class 커밋하는_테스트_클래스 {
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        // 카운터는 복원 전 값(앞 클래스의 커밋 포함)을 들고 있음 → 복원된 DB 기준으로 다시 맞춤
+        @BeforeEach
+        void setUp() {
+            memberRepository.reconcileCount();
+        }
+
+        @Test
+        void 시드된_상태에서_시작하고_저장은_실제로_커밋된다() {
+            assertThat(memberRepository.countAllNative()).isEqualTo(SEEDED_MEMBERS);
+            assertThat(memberRepository.countAllCached()).isEqualTo(SEEDED_MEMBERS);
+
+            memberRepository.save(new Member("커밋", "commit@snapshot.com"));
+
+            // PostCommit 이벤트가 실행됨 = 실제로 커밋됨 (롤백 방식에서는 볼 수 없는 동작)
+            assertThat(memberRepository.countAllCached()).isEqualTo(SEEDED_MEMBERS + 1);
+            assertThat(memberRepository.findByEmail("commit@snapshot.com")).isPresent();
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    @DatabaseSnapshot(seed = ThousandMembers.class)
+    class 첫_번째_클래스 extends 커밋하는_테스트_클래스 {}
+
+    @Nested
+    @DataJpaTest
+    @DatabaseSnapshot(seed = ThousandMembers.class)
+    class 두_번째_클래스 extends 커밋하는_테스트_클래스 {}
+
+    @Nested
+    @DataJpaTest
+    @DatabaseSnapshot
+    class 시드_없음 {
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Test
+        void 스키마만_있는_빈_DB에서_시작한다() {
+            assertThat(memberRepository.countAllNative()).isZero();
+        }
+    }
+}
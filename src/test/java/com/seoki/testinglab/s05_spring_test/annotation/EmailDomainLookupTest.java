@@ -0,0 +1,120 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 인덱스를 타는 도메인 조회 학습 테스트
+ *
+ * 핵심 개념:
+ * - LIKE '%test.com'처럼 앞에 와일드카드가 있으면 B-Tree 인덱스를 사용할 수 없음 → 전체 스캔
+ * - 도메인을 별도 컬럼(email_domain)에 저장하고 인덱스를 걸면 동등 비교로 인덱스 조회
+ *
+ * 실무 포인트:
+ * - 파생 컬럼은 @PrePersist/@PreUpdate로 자동 동기화
+ * - JDBC 배치처럼 엔티티 콜백을 거치지 않는 경로는 직접 채워야 함
+ * - EXPLAIN으로 실제 실행 계획을 확인하는 습관
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
+public class EmailDomainLookupTest {
+
+    @Nested
+    @DataJpaTest
+    class 도메인_컬럼_동기화 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Test
+        void 저장하면_도메인_컬럼이_채워진다() {
+            Member member = em.persistFlushFind(new Member("홍길동", "hong@Test.COM"));
+
+            assertThat(member.getEmailDomain()).isEqualTo("test.com");
+        }
+
+        @Test
+        void JDBC_배치_삽입도_도메인_컬럼을_채운다() {
+            memberRepository.insertAllInBatch(List.of(new Member("배치", "batch@bulk.com")), 100);
+
+            assertThat(memberRepository.findByEmailDomain("bulk.com")).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    class 도메인_조회 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @BeforeEach
+        void setUp() {
+            em.persist(new Member("김철수", "kim@test.com"));
+            em.persist(new Member("이영희", "lee@test.com"));
+            em.persist(new Member("박민수", "park@mytest.com"));
+            em.flush();
+            em.clear();
+        }
+
+        @Test
+        void 도메인이_정확히_일치하는_회원만_조회된다() {
+            List<Member> members = memberRepository.findByEmailDomain("test.com");
+
+            assertThat(members).extracting(Member::getEmail).containsExactlyInAnyOrder("kim@test.com", "lee@test.com");
+        }
+
+        @Test
+        void 대소문자를_구분하지_않는다() {
+            assertThat(memberRepository.findByEmailDomain("TEST.com")).hasSize(2);
+        }
+
+        @Test
+        void 접미사_LIKE는_다른_도메인까지_섞여_나온다() {
+            // '%test.com'은 mytest.com도 매칭 → 성능뿐 아니라 정확성 문제도 있음
+            List<Member> members = memberRepository.findByEmailDomainUsingLike("test.com");
+
+            assertThat(members).hasSize(3);
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    class 실행_계획_확인 {
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void 도메인_컬럼_조회는_인덱스를_사용한다() {
+            String plan = explain("SELECT * FROM members WHERE email_domain = 'test.com'");
+
+            assertThat(plan).containsIgnoringCase("idx_members_email_domain");
+        }
+
+        @Test
+        void 접미사_LIKE는_전체_스캔한다() {
+            String plan = explain("SELECT * FROM members WHERE email LIKE '%test.com'");
+
+            assertThat(plan).containsIgnoringCase("tableScan");
+        }
+
+        private String explain(String sql) {
+            return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        }
+    }
+}
@@ -2,11 +2,19 @@ package com.seoki.testinglab.s05_spring_test.annotation;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.Locale;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "members")
+@Cacheable // 2차 캐시 대상 (hibernate.cache.use_second_level_cache가 켜진 경우에만 동작)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION)
+@Table(name = "members", indexes = @Index(name = "idx_members_email_domain", columnList = "email_domain"))
 class Member {
 
+    static final String CACHE_REGION = "members";
+    static final String EMAIL_QUERY_CACHE_REGION = "member-email-queries";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -17,6 +25,10 @@ class Member {
     @Column(nullable = false, unique = true)
     private String email;
 
+    // 도메인 조회용 (LIKE '%도메인'은 인덱스를 못 타므로 도메인을 별도 컬럼으로 저장)
+    @Column(name = "email_domain", nullable = false)
+    private String emailDomain;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -25,9 +37,21 @@ class Member {
     Member(String name, String email) { // package-private
         this.name = name;
         this.email = email;
+        this.emailDomain = domainOf(email);
         this.createdAt = LocalDateTime.now();
     }
 
+    // email이 바뀌어도 INSERT/UPDATE 직전에 항상 다시 계산
+    @PrePersist
+    @PreUpdate
+    void syncEmailDomain() {
+        this.emailDomain = domainOf(email);
+    }
+
+    static String domainOf(String email) {
+        return email.substring(email.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
     // getter도 package-private 가능
     Long getId() {
         return id;
@@ -40,4 +64,12 @@ class Member {
     String getEmail() {
         return email;
     }
+
+    String getEmailDomain() {
+        return emailDomain;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 }
@@ -0,0 +1,19 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.Collection;
+
+/**
+ * 대량 적재용 Repository 조각(fragment)
+ *
+ * - MemberRepository가 상속하면 Spring Data가 MemberBulkRepositoryImpl을 찾아 연결
+ * - IDENTITY 전략에서는 Hibernate가 INSERT마다 생성된 id를 받아와야 해서 배치가 꺼짐
+ * - JDBC 배치로 직접 INSERT하면 id 조회 왕복 없이 batchSize 단위로 전송
+ */
+interface MemberBulkRepository {
+
+    /**
+     * @return 삽입된 행 수
+     * 주의: 영속성 컨텍스트를 거치지 않으므로 전달한 Member의 id는 채워지지 않음
+     */
+    int insertAllInBatch(Collection<Member> members, int batchSize);
+}
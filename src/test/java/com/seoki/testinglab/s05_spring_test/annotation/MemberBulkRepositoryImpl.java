@@ -0,0 +1,80 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MemberBulkRepositoryImpl implements MemberBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO members (name, email, email_domain, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final MemberCountRepositoryImpl memberCounter;
+
+    MemberBulkRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory,
+            MemberCountRepositoryImpl memberCounter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.memberCounter = memberCounter;
+    }
+
+    @Override
+    @Transactional
+    public int insertAllInBatch(Collection<Member> members, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+
+        // id 컬럼은 생략 → DB의 IDENTITY가 채움 (생성 키를 돌려받지 않으므로 왕복 없음)
+        jdbcTemplate.batchUpdate(INSERT_SQL, members, batchSize, (ps, member) -> {
+            ps.setString(1, member.getName());
+            ps.setString(2, member.getEmail());
+            ps.setString(3, member.getEmailDomain());
+            ps.setTimestamp(4, toTimestamp(member.getCreatedAt()));
+        });
+
+        // Hibernate를 거치지 않은 INSERT는 쿼리 캐시, 회원 수 카운터가 알 수 없음 → 커밋 후 직접 반영
+        int inserted = members.size();
+        afterCommit(() -> {
+            evictEmailQueryCache();
+            memberCounter.adjust(inserted);
+        });
+        return inserted;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evictEmailQueryCache() {
+        entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getCache()
+                .evictQueryRegion(Member.EMAIL_QUERY_CACHE_REGION);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -0,0 +1,69 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Member 2차 캐시 지표 조회
+ *
+ * - 적중/미스/저장: Hibernate Statistics (hibernate.generate_statistics 필요)
+ * - 축출: JCache 표준 CacheStatistics MBean (Caffeine monitoring.statistics 필요)
+ */
+class MemberCacheMetrics {
+
+    private final Statistics statistics;
+
+    MemberCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    RegionMetrics entityRegion() {
+        return of(Member.CACHE_REGION, statistics.getDomainDataRegionStatistics(Member.CACHE_REGION));
+    }
+
+    RegionMetrics emailQueryRegion() {
+        return of(
+                Member.EMAIL_QUERY_CACHE_REGION,
+                statistics.getQueryRegionStatistics(Member.EMAIL_QUERY_CACHE_REGION));
+    }
+
+    void clear() {
+        statistics.clear();
+    }
+
+    private static RegionMetrics of(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return new RegionMetrics(region, 0, 0, 0, evictions(region));
+        }
+        return new RegionMetrics(
+                region,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount(),
+                evictions(region));
+    }
+
+    private static long evictions(String cacheName) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName pattern = new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*");
+            Set<ObjectName> names = server.queryNames(pattern, null);
+            long evictions = 0;
+            for (ObjectName name : names) {
+                evictions += (Long) server.getAttribute(name, "CacheEvictions");
+            }
+            return evictions;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to read cache statistics: " + cacheName, e);
+        }
+    }
+
+    record RegionMetrics(String region, long hits, long misses, long puts, long evictions) {}
+}
@@ -0,0 +1,19 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+/**
+ * 회원 수 캐시용 Repository 조각(fragment)
+ *
+ * - countAllNative(): 호출마다 COUNT(*) → 테이블 전체 스캔
+ * - countAllCached(): 메모리 카운터를 읽음 → O(1)
+ * - 카운터는 커밋된 INSERT/DELETE만 반영하고, 주기적으로 COUNT(*)와 재조정
+ */
+interface MemberCountRepository {
+
+    long countAllCached();
+
+    /**
+     * COUNT(*)로 카운터를 다시 맞춤
+     * JPQL 벌크 DELETE(deleteAllInBatch 등)처럼 엔티티 이벤트를 거치지 않는 변경은 재조정 전까지 반영되지 않음
+     */
+    long reconcileCount();
+}
@@ -0,0 +1,90 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+class MemberCountRepositoryImpl implements MemberCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 초기화 전에도 커밋 이벤트를 누적 → 첫 재조정이 조회 전까지의 누적분을 보정
+    private final AtomicLong count = new AtomicLong();
+
+    private volatile boolean initialized;
+
+    MemberCountRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // 커밋이 성공한 INSERT/DELETE만 받는 Hibernate 이벤트 (롤백되면 onPost...CommitFailed 호출)
+        CountingListener listener = new CountingListener();
+        EventListenerRegistry registry = entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    @Override
+    public long countAllCached() {
+        return initialized ? count.get() : reconcileCount();
+    }
+
+    /**
+     * 조회 결과로 덮어쓰지 않고 조회 시작 시점의 오차만 더함
+     * → COUNT(*)가 실행되는 동안 커밋되어 이벤트로 반영된 변경이 사라지지 않음
+     * (커밋은 조회 전, 이벤트는 조회 시작 후인 좁은 구간의 변경은 두 번 셀 수 있음 → 다음 재조정에서 보정)
+     */
+    @Override
+    @Scheduled(
+            initialDelayString = "${member.count.reconcile-interval:PT5M}",
+            fixedDelayString = "${member.count.reconcile-interval:PT5M}")
+    public synchronized long reconcileCount() {
+        long before = count.get();
+        long actual = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Long.class);
+        long reconciled = count.addAndGet(actual - before);
+        initialized = true;
+        return reconciled;
+    }
+
+    /**
+     * 엔티티 이벤트를 거치지 않는 쓰기(JDBC 배치 등)가 커밋 후 직접 반영
+     */
+    void adjust(long delta) {
+        count.addAndGet(delta);
+    }
+
+    private class CountingListener implements PostCommitInsertEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.getMappedClass() == Member.class;
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            adjust(1);
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {}
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            adjust(-1);
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+    }
+}
@@ -0,0 +1,14 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 회원 수 카운터의 주기적 재조정(@Scheduled reconcileCount) 활성화
+ *
+ * - 애플리케이션 클래스에 두면 모든 슬라이스 컨텍스트가 스케줄러를 띄우고 테스트 도중 COUNT(*)를 실행
+ * - 컴포넌트 스캔 대상 → 전체 컨텍스트(@SpringBootTest)에서만 등록, 슬라이스는 스캔한 설정을 제외
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+class MemberCountSchedulingConfiguration {}
@@ -0,0 +1,107 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 수 카운터 학습 테스트
+ *
+ * 핵심 개념:
+ * - COUNT(*)는 행 수에 비례하는 비용 → 자주 호출되면 카운터를 따로 유지
+ * - 카운터는 커밋된 변경만 반영해야 함 → Hibernate PostCommit 이벤트 사용
+ * - 이벤트를 거치지 않는 변경(JPQL 벌크 연산)은 주기적인 재조정으로 보정
+ *
+ * 실무 포인트:
+ * - 커밋/롤백 동작을 검증하려면 테스트 트랜잭션을 꺼야 함 (NOT_SUPPORTED)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
+public class MemberCountTest {
+
+    @Nested
+    @DataJpaTest
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class 회원_수_카운터 {
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Autowired
+        PlatformTransactionManager transactionManager;
+
+        @BeforeEach
+        void setUp() {
+            memberRepository.deleteAllInBatch();
+            memberRepository.reconcileCount();
+        }
+
+        @AfterEach
+        void tearDown() {
+            memberRepository.deleteAllInBatch();
+        }
+
+        @Test
+        void 저장이_커밋되면_증가한다() {
+            memberRepository.save(new Member("김철수", "kim@test.com"));
+            memberRepository.save(new Member("이영희", "lee@test.com"));
+
+            assertThat(memberRepository.countAllCached()).isEqualTo(2);
+        }
+
+        @Test
+        void 삭제가_커밋되면_감소한다() {
+            Member member = memberRepository.save(new Member("탈퇴", "bye@test.com"));
+
+            memberRepository.delete(member);
+
+            assertThat(memberRepository.countAllCached()).isZero();
+        }
+
+        @Test
+        void 롤백된_저장은_반영되지_않는다() {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                memberRepository.saveAndFlush(new Member("롤백", "rollback@test.com"));
+                status.setRollbackOnly();
+            });
+
+            assertThat(memberRepository.countAllCached()).isZero();
+        }
+
+        @Test
+        void JDBC_배치_삽입도_커밋_후_반영된다() {
+            memberRepository.insertAllInBatch(
+                    List.of(new Member("배치1", "bulk1@test.com"), new Member("배치2", "bulk2@test.com")), 100);
+
+            assertThat(memberRepository.countAllCached()).isEqualTo(2);
+        }
+
+        @Test
+        void JPQL_벌크_삭제는_재조정_전까지_반영되지_않는다() {
+            memberRepository.save(new Member("김철수", "kim@test.com"));
+
+            memberRepository.deleteAllInBatch(); // 엔티티 이벤트 없음
+
+            assertThat(memberRepository.countAllCached()).isEqualTo(1);
+            assertThat(memberRepository.reconcileCount()).isZero();
+            assertThat(memberRepository.countAllCached()).isZero();
+        }
+
+        @Test
+        void 카운터와_COUNT_쿼리_결과가_같다() {
+            memberRepository.save(new Member("김철수", "kim@test.com"));
+            memberRepository.save(new Member("이영희", "lee@test.com"));
+
+            assertThat(memberRepository.countAllCached()).isEqualTo(memberRepository.countAllNative());
+        }
+    }
+}
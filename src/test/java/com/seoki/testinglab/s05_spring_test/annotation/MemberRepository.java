@@ -1,20 +1,69 @@
 package com.seoki.testinglab.s05_spring_test.annotation;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+interface MemberRepository extends JpaRepository<Member, Long>, MemberBulkRepository, MemberCountRepository {
+    // findAll()의 스트리밍 버전: 전체 테이블을 List로 만들지 않고 fetch size 단위로 읽음
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT m FROM Member m")
+    Stream<Member> streamAll();
+
+    // findAll()의 키셋 페이지네이션 버전: 몇 번째 페이지든 PK 인덱스로 시작 위치를 바로 찾음
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Member> findByIdGreaterThanOrderByIdAsc(long lastId, Limit limit);
 
-interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findByNameStartingWith(String prefix);
 
+    @Query("SELECT new com.seoki.testinglab.s05_spring_test.annotation.MemberSummary(m.id, m.name, m.email)"
+            + " FROM Member m WHERE m.name LIKE :prefix%")
+    List<MemberSummary> findSummariesByNameStartingWith(String prefix);
+
+    // 스트리밍 조회: 트랜잭션 안에서 try-with-resources로 닫아야 함
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Member> streamByNameStartingWith(String prefix);
+
+    // 키셋 페이지네이션: WHERE id > :lastId ORDER BY id LIMIT n
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Member> findByNameStartingWithAndIdGreaterThanOrderByIdAsc(String prefix, long lastId, Limit limit);
+
+    // 쿼리 캐시 대상: 로그인/가입마다 호출 (쿼리 캐시가 꺼져 있으면 힌트는 무시됨)
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = Member.EMAIL_QUERY_CACHE_REGION)
+    })
     boolean existsByEmail(String email);
 
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = Member.EMAIL_QUERY_CACHE_REGION)
+    })
     Optional<Member> findByEmail(String email);
 
-    @Query("SELECT m FROM Member m WHERE m.email LIKE %:domain")
+    // email_domain 인덱스를 타는 동등 비교 (도메인은 소문자로 저장됨)
+    @Query("SELECT m FROM Member m WHERE m.emailDomain = LOWER(:domain)")
     List<Member> findByEmailDomain(String domain);
 
+    @Query("SELECT new com.seoki.testinglab.s05_spring_test.annotation.MemberSummary(m.id, m.name, m.email)"
+            + " FROM Member m WHERE m.emailDomain = LOWER(:domain)")
+    List<MemberSummary> findSummariesByEmailDomain(String domain);
+
+    // 접미사 LIKE → 인덱스 사용 불가, 전체 스캔 (성능 비교용)
+    @Query("SELECT m FROM Member m WHERE m.email LIKE %:domain")
+    List<Member> findByEmailDomainUsingLike(String domain);
+
+    // 호출마다 전체 스캔 → 자주 호출한다면 countAllCached() 사용
     @Query(value = "SELECT COUNT(*) FROM members", nativeQuery = true)
     long countAllNative();
 }
@@ -0,0 +1,138 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+/**
+ * 대용량 조회(스트리밍, 키셋 페이지네이션) 학습 테스트
+ *
+ * 핵심 개념:
+ * - findAll(): 전체 결과를 List로 만듦 → 테이블이 크면 OOM
+ * - Stream: fetch size 단위로 읽으며 하나씩 처리 (트랜잭션 안에서만 사용 가능)
+ * - 키셋: WHERE id > 마지막id ORDER BY id LIMIT n → 깊은 페이지도 일정한 비용
+ * - 오프셋: LIMIT n OFFSET m → 앞의 m개를 읽고 버리므로 페이지가 깊을수록 느려짐
+ *
+ * 실무 포인트:
+ * - Stream은 반드시 try-with-resources로 닫기 (커넥션, 커서 반환)
+ * - read-only 힌트로 스냅샷 생략, 처리한 엔티티는 detach해서 1차 캐시 증가 방지
+ * - fetch size의 실제 동작은 드라이버마다 다름 (MySQL은 useCursorFetch 필요)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
+public class MemberScanTest {
+
+    @Nested
+    @DataJpaTest
+    class Stream_조회 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @BeforeEach
+        void setUp() {
+            em.persist(new Member("김철수", "kim@test.com"));
+            em.persist(new Member("이영희", "lee@test.com"));
+            em.persist(new Member("김영수", "kim2@test.com"));
+            em.flush();
+            em.clear();
+        }
+
+        @Test
+        void 전체를_스트림으로_읽는다() {
+            try (Stream<Member> members = memberRepository.streamAll()) {
+                assertThat(members).hasSize(3);
+            }
+        }
+
+        @Test
+        void 이름_접두사로_스트림_조회() {
+            try (Stream<Member> members = memberRepository.streamByNameStartingWith("김")) {
+                assertThat(members.map(Member::getName)).containsExactlyInAnyOrder("김철수", "김영수");
+            }
+        }
+
+        @Test
+        void read_only_힌트로_읽은_엔티티는_스냅샷을_보관하지_않는다() {
+            Session session = em.getEntityManager().unwrap(Session.class);
+
+            try (Stream<Member> members = memberRepository.streamAll()) {
+                members.forEach(member -> assertThat(session.isReadOnly(member)).isTrue());
+            }
+        }
+
+        @Test
+        void 처리한_엔티티를_detach하면_1차_캐시가_커지지_않는다() {
+            Session session = em.getEntityManager().unwrap(Session.class);
+
+            try (Stream<Member> members = memberRepository.streamAll()) {
+                members.forEach(session::detach);
+            }
+
+            assertThat(session.getStatistics().getEntityCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    class 키셋_페이지네이션 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @BeforeEach
+        void setUp() {
+            for (int i = 0; i < 5; i++) {
+                em.persist(new Member("김" + i, "kim" + i + "@test.com"));
+                em.persist(new Member("이" + i, "lee" + i + "@test.com"));
+            }
+            em.flush();
+            em.clear();
+        }
+
+        @Test
+        void 마지막_id_이후부터_limit개씩_읽는다() {
+            List<Member> all = new ArrayList<>();
+            long lastId = 0;
+
+            List<Member> page;
+            while (!(page = memberRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(3))).isEmpty()) {
+                assertThat(page).hasSizeLessThanOrEqualTo(3);
+                all.addAll(page);
+                lastId = page.get(page.size() - 1).getId();
+            }
+
+            assertThat(all).hasSize(10);
+            assertThat(all).extracting(Member::getId).isSorted();
+        }
+
+        @Test
+        void 이름_접두사_조건과_함께_사용한다() {
+            List<Member> first =
+                    memberRepository.findByNameStartingWithAndIdGreaterThanOrderByIdAsc("김", 0, Limit.of(3));
+            long lastId = first.get(first.size() - 1).getId();
+            List<Member> second =
+                    memberRepository.findByNameStartingWithAndIdGreaterThanOrderByIdAsc("김", lastId, Limit.of(3));
+
+            assertThat(first).hasSize(3);
+            assertThat(second).hasSize(2);
+            assertThat(second).extracting(Member::getName).allMatch(name -> name.startsWith("김"));
+        }
+    }
+}
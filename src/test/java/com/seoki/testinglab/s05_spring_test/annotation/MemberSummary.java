@@ -0,0 +1,9 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+/**
+ * 목록 조회용 읽기 전용 프로젝션
+ *
+ * - 필요한 컬럼(id, name, email)만 SELECT
+ * - 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음 → 스냅샷, 더티 체킹, 1차 캐시 비용 없음
+ */
+record MemberSummary(Long id, String name, String email) {}
@@ -0,0 +1,87 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * "없음"을 짧게 기억하는 부정 캐시 (negative cache)
+ *
+ * - 존재하지 않는 키를 TTL 동안 기억 → 같은 키의 반복 조회가 저장소까지 가지 않음
+ * - TTL이 짧으므로 다른 경로로 생성된 데이터도 곧 보이게 됨
+ * - 항목 수가 상한에 도달하면 만료된 항목을 정리하고, 그래도 가득 차면 새로 기억하지 않음
+ *   (스캐너처럼 서로 다른 키를 무한히 찌르는 경우에도 메모리는 상한 이내)
+ * - 전체 정리는 O(n)이므로 TTL당 최대 한 번만 수행
+ * - TTL이 0 이하면 비활성화
+ */
+final class NegativeCache<K> {
+
+    static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private final long ttlNanos;
+
+    private final int maxEntries;
+
+    private final LongSupplier nanoClock;
+
+    // 키 → 만료 시각 (nanoTime 기준)
+    private final ConcurrentMap<K, Long> expiresAt = new ConcurrentHashMap<>();
+
+    private volatile long nextPurgeAt;
+
+    NegativeCache(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    NegativeCache(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.nextPurgeAt = nanoClock.getAsLong();
+    }
+
+    boolean contains(K key) {
+        if (ttlNanos <= 0) {
+            return false;
+        }
+        Long deadline = expiresAt.get(key);
+        if (deadline == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - deadline >= 0) {
+            expiresAt.remove(key, deadline);
+            return false;
+        }
+        return true;
+    }
+
+    void put(K key) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        if (expiresAt.size() >= maxEntries) {
+            if (now - nextPurgeAt >= 0) {
+                nextPurgeAt = now + ttlNanos;
+                expiresAt.values().removeIf(deadline -> now - deadline >= 0);
+            }
+            if (expiresAt.size() >= maxEntries) {
+                return;
+            }
+        }
+        expiresAt.put(key, now + ttlNanos);
+    }
+
+    void remove(K key) {
+        expiresAt.remove(key);
+    }
+
+    void clear() {
+        expiresAt.clear();
+    }
+
+    int size() {
+        return expiresAt.size();
+    }
+}
@@ -0,0 +1,182 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoki.testinglab.support.parallel.SharedResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 404 부정 캐시 + 스택 없는 OrderNotFoundException 테스트
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class NegativeCacheTest {
+
+    @Nested
+    class TTL_동작 {
+
+        AtomicLong now = new AtomicLong();
+
+        NegativeCache<Long> cache = new NegativeCache<>(Duration.ofSeconds(5), 3, now::get);
+
+        @Test
+        void TTL_동안만_없음을_기억한다() {
+            cache.put(1L);
+
+            now.addAndGet(Duration.ofSeconds(4).toNanos());
+            assertThat(cache.contains(1L)).isTrue();
+
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertThat(cache.contains(1L)).isFalse();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        void 상한에_도달하면_만료된_항목을_정리하고_그래도_가득_차면_기억하지_않는다() {
+            cache.put(1L);
+            cache.put(2L);
+            cache.put(3L);
+
+            cache.put(4L);
+            assertThat(cache.contains(4L)).isFalse();
+
+            now.addAndGet(Duration.ofSeconds(5).toNanos());
+            cache.put(5L);
+            assertThat(cache.contains(5L)).isTrue();
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 제거한_키는_바로_다시_조회된다() {
+            cache.put(1L);
+
+            cache.remove(1L);
+
+            assertThat(cache.contains(1L)).isFalse();
+        }
+
+        @Test
+        void TTL이_0이면_비활성화() {
+            NegativeCache<Long> disabled = new NegativeCache<>(Duration.ZERO, 3, now::get);
+
+            disabled.put(1L);
+
+            assertThat(disabled.contains(1L)).isFalse();
+        }
+    }
+
+    @Nested
+    class 스택_없는_예외 {
+
+        @Test
+        void stackless는_스택_트레이스를_채우지_않는다() {
+            assertThat(OrderNotFoundException.stackless(1L).getStackTrace()).isEmpty();
+            assertThat(new OrderNotFoundException(1L).getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        void 메시지는_기존_예외와_같다() {
+            assertThat(OrderNotFoundException.stackless(1L))
+                    .hasMessage(new OrderNotFoundException(1L).getMessage());
+        }
+    }
+
+    /**
+     * 부정 캐시는 기본적으로 꺼져 있으므로 TTL을 지정해 켬
+     * - 슬라이스에는 MeterRegistry가 없으므로 api.lookups 확인용 SimpleMeterRegistry를 등록
+     */
+    @Nested
+    @WebMvcTest(controllers = OrderController.class, properties = "orders.not-found-cache.ttl=5s")
+    @Import(SimpleMeterRegistry.class)
+    @ResourceLock(SharedResources.ORDER_API_MOCKS)
+    class 주문_단건_조회 {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        ObjectMapper objectMapper;
+
+        @Autowired
+        OrderController orderController;
+
+        @Autowired
+        MeterRegistry meterRegistry;
+
+        @MockitoBean
+        OrderService orderService;
+
+        // 컨텍스트(부정 캐시 포함)는 테스트 사이에 재사용됨
+        @BeforeEach
+        void clearCaches() {
+            orderController.clearCaches();
+        }
+
+        @Test
+        void 없는_주문의_반복_조회는_TTL_동안_Service를_다시_호출하지_않는다() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.empty());
+            double negativeCacheHits = lookups("negative_cache");
+
+            for (int i = 0; i < 5; i++) {
+                mockMvc.perform(get("/api/orders/{id}", 1L)).andExpect(status().isNotFound());
+            }
+
+            then(orderService).should(times(1)).findById(1L);
+            assertThat(lookups("negative_cache")).isEqualTo(negativeCacheHits + 4);
+        }
+
+        @Test
+        void 주문이_생성되면_해당_id는_부정_캐시에서_제거된다() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.empty());
+            mockMvc.perform(get("/api/orders/{id}", 1L)).andExpect(status().isNotFound());
+
+            Order created = new Order(1L, "새 상품", 20000);
+            given(orderService.create(any(OrderRequest.class))).willReturn(created);
+            given(orderService.findById(1L)).willReturn(Optional.of(created));
+            mockMvc.perform(post("/api/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new OrderRequest("새 상품", 20000))))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get("/api/orders/{id}", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1L));
+        }
+
+        @Test
+        void 존재하는_주문은_부정_캐시에_영향을_받지_않는다() throws Exception {
+            given(orderService.findById(1L)).willReturn(Optional.of(new Order(1L, "상품", 1000)));
+
+            mockMvc.perform(get("/api/orders/{id}", 1L)).andExpect(status().isOk());
+            mockMvc.perform(get("/api/orders/{id}", 1L)).andExpect(status().isOk());
+
+            then(orderService).should(times(2)).findById(1L);
+        }
+
+        private double lookups(String result) {
+            return meterRegistry
+                    .get(ApiMetrics.LOOKUPS)
+                    .tags("api", "orders", "result", result)
+                    .counter()
+                    .count();
+        }
+    }
+}
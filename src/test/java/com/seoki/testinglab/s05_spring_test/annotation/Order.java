@@ -0,0 +1,3 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+record Order(Long id, String productName, int amount) {}
@@ -0,0 +1,311 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.seoki.testinglab.s05_spring_test.annotation.OrderCreationQueue.CreationStatus;
+import com.seoki.testinglab.s05_spring_test.annotation.OrderCreationQueue.QueueStats;
+import com.seoki.testinglab.s05_spring_test.annotation.OrderResponseCache.Cached;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/orders")
+class OrderController {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final OrderService orderService;
+
+    private final Validator validator;
+
+    // 스트리밍 응답은 레코드마다 바로 출력 스트림에 쓰므로 출력 스트림을 닫지 않는 writer 사용
+    private final ObjectWriter orderWriter;
+
+    private final OrderResponseCache responseCache;
+
+    // 같은 id에 대한 동시 조회는 OrderService를 한 번만 호출
+    private final SingleFlight<Long, Optional<Order>> findByIdFlight = new SingleFlight<>();
+
+    // 존재하지 않는 id를 잠시 기억 → 스캐너/오래된 클라이언트의 반복 404가 Service까지 가지 않음
+    // 응답 캐시처럼 기본은 꺼짐 (orders.not-found-cache.ttl로 켬)
+    private final NegativeCache<Long> notFoundCache;
+
+    // orders.creation.mode=async일 때만 생성 (sync면 null)
+    private final OrderCreationQueue creationQueue;
+
+    private final DistributionSummary findAllItems;
+
+    private final DistributionSummary findPageItems;
+
+    private final DistributionSummary batchItems;
+
+    private final Counter found;
+
+    private final Counter notFound;
+
+    private final Counter negativeCacheHits;
+
+    OrderController(
+            OrderService orderService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${orders.response-cache.enabled:false}") boolean responseCacheEnabled,
+            @Value("${orders.creation.mode:sync}") String creationMode,
+            @Value("${orders.creation.queue-capacity:10000}") int queueCapacity,
+            @Value("${orders.creation.max-batch-size:500}") int maxBatchSize,
+            @Value("${orders.not-found-cache.ttl:0s}") Duration notFoundTtl) {
+        this.orderService = orderService;
+        this.validator = validator;
+        this.orderWriter = objectMapper.writerFor(Order.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.responseCache = new OrderResponseCache(responseCacheEnabled, OrderResponseCache.DEFAULT_MAX_ENTRIES);
+        this.notFoundCache = new NegativeCache<>(notFoundTtl, NegativeCache.DEFAULT_MAX_ENTRIES);
+        this.creationQueue = switch (creationMode) {
+            case "sync" -> null;
+            case "async" -> new OrderCreationQueue(
+                    orderService, this::onCreated, queueCapacity, maxBatchSize, 100_000);
+            default -> throw new IllegalArgumentException("Unknown orders.creation.mode: " + creationMode);
+        };
+
+        ApiMetrics metrics = new ApiMetrics(meterRegistry, "orders");
+        this.findAllItems = metrics.responseItems("findAll");
+        this.findPageItems = metrics.responseItems("findPage");
+        this.batchItems = metrics.responseItems("createAll");
+        this.found = metrics.lookups("found");
+        this.notFound = metrics.lookups("not_found");
+        this.negativeCacheHits = metrics.lookups("negative_cache");
+        metrics.functionCounter("orders.lookup.executions", findByIdFlight, SingleFlight::executions);
+        metrics.functionCounter("orders.lookup.coalesced", findByIdFlight, SingleFlight::coalesced);
+        metrics.gauge("orders.not.found.cache.size", notFoundCache, NegativeCache::size);
+        metrics.gauge("orders.response.cache.size", responseCache, OrderResponseCache::size);
+        if (creationQueue != null) {
+            metrics.gauge("orders.creation.queue.depth", creationQueue, queue -> queue.stats().depth());
+            metrics.gauge("orders.creation.queue.capacity", creationQueue, queue -> queue.stats().capacity());
+            metrics.functionCounter("orders.creation.accepted", creationQueue, queue -> queue.stats().accepted());
+            metrics.functionCounter("orders.creation.rejected", creationQueue, queue -> queue.stats().rejected());
+            metrics.functionCounter("orders.creation.created", creationQueue, queue -> queue.stats().created());
+            metrics.functionCounter("orders.creation.failed", creationQueue, queue -> queue.stats().failed());
+            metrics.functionCounter("orders.creation.batches", creationQueue, queue -> queue.stats().batches());
+        }
+    }
+
+    SingleFlight<Long, Optional<Order>> findByIdFlight() {
+        return findByIdFlight;
+    }
+
+    /**
+     * 응답 캐시와 부정 캐시를 비움
+     * - 캐시를 켠 컨텍스트는 테스트 사이에 재사용되므로 테스트마다 빈 캐시에서 시작하도록 호출
+     */
+    void clearCaches() {
+        responseCache.invalidateAll();
+        notFoundCache.clear();
+    }
+
+    /**
+     * 생성 경로(단건/일괄/비동기) 공통 후처리: 응답 캐시 무효화 + 생성된 id를 부정 캐시에서 제거
+     */
+    private void onCreated(List<Order> created) {
+        responseCache.invalidateAll();
+        created.forEach(order -> notFoundCache.remove(order.id()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (creationQueue != null) {
+            creationQueue.close();
+        }
+    }
+
+    /**
+     * 조건부 GET: If-None-Match가 현재 ETag와 같으면 본문 없이 304
+     * - checkNotModified가 ETag 헤더 설정과 304 처리를 모두 담당
+     * - null을 반환하면 Spring MVC가 본문 직렬화를 생략
+     */
+    @GetMapping
+    List<Order> findAll(WebRequest request) {
+        Cached<List<Order>> cached = responseCache.get("orders", orderService::findAll);
+        findAllItems.record(cached.body().size());
+        return request.checkNotModified(cached.etag()) ? null : cached.body();
+    }
+
+    /**
+     * 커서 기반 페이지 조회 (limit 파라미터가 있을 때만 선택됨)
+     *
+     * - after: 직전 페이지의 nextCursor (없으면 처음부터)
+     * - fields: 응답에 포함할 필드 (예: fields=id,amount, 없으면 전체)
+     * - limit + 1건을 조회해서 다음 페이지 존재 여부를 COUNT 없이 판단
+     */
+    @GetMapping(params = "limit")
+    CursorPage<Object> findPage(
+            @RequestParam @Min(1) @Max(CursorPage.MAX_LIMIT) int limit,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Set<String> fields,
+            WebRequest request) {
+        SparseFieldset<Order> fieldset = SparseFieldset.of(Order.class, fields);
+        CursorPage<Object> page = CursorPage.of(orderService.findAllAfter(after, limit + 1), limit, Order::id)
+                .map(fieldset::apply);
+        findPageItems.record(page.items().size());
+        return request.checkNotModified(ContentETag.of(page)) ? null : page;
+    }
+
+    /**
+     * NDJSON 스트리밍 조회 (Accept: application/x-ndjson)
+     *
+     * - List로 모으지 않고 Stream에서 한 건씩 꺼내 바로 직렬화 → 힙에는 현재 레코드만 남음
+     * - 본문은 비동기 스레드에서 쓰이므로 Stream도 그 안에서 열고 닫음
+     * - Accept 헤더가 없거나 application/json이면 기존 findAll()이 선택됨
+     * - produces는 핸들러 선택에만 쓰임 → StreamingResponseBody는 Content-Type을 직접 지정해야 함
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+            try (Stream<Order> orders = orderService.streamAll()) {
+                Iterator<Order> iterator = orders.iterator();
+                while (iterator.hasNext()) {
+                    orderWriter.writeValue(out, iterator.next());
+                    out.write('\n');
+                }
+            }
+        });
+    }
+
+    /**
+     * 주문 단건 조회
+     *
+     * - 부정 캐시 → 응답 캐시 → single-flight → Service 순서
+     * - 404는 스택 트레이스 없는 예외로 응답 (스택은 어차피 응답에 쓰이지 않음)
+     */
+    @GetMapping("/{id}")
+    Order findById(@PathVariable Long id, WebRequest request) {
+        if (notFoundCache.contains(id)) {
+            negativeCacheHits.increment();
+            throw OrderNotFoundException.stackless(id);
+        }
+        // 빈 결과도 공유되므로 동시에 들어온 요청은 모두 404 (예외는 요청마다 생성)
+        Cached<Order> cached = responseCache.get("order:" + id, () -> findByIdFlight
+                .execute(id, () -> orderService.findById(id))
+                .orElseThrow(() -> notFound(id)));
+        found.increment();
+        return request.checkNotModified(cached.etag()) ? null : cached.body();
+    }
+
+    private OrderNotFoundException notFound(Long id) {
+        notFound.increment();
+        notFoundCache.put(id);
+        return OrderNotFoundException.stackless(id);
+    }
+
+    /**
+     * 주문 생성
+     *
+     * - sync (기본): 저장까지 마친 뒤 201 + 주문
+     * - async: 큐에 넣고 즉시 202 + 추적 id (Location: 상태 조회 URL), 큐가 가득 차면 429
+     */
+    @PostMapping
+    ResponseEntity<?> create(@RequestBody @jakarta.validation.Valid OrderRequest request) {
+        if (creationQueue == null) {
+            Order order = orderService.create(request);
+            onCreated(List.of(order));
+            return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(order);
+        }
+        UUID requestId = creationQueue.submit(request).orElseThrow(OrderQueueFullException::new);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/requests/" + requestId))
+                .body(CreationStatus.pending(requestId));
+    }
+
+    @GetMapping("/requests/{requestId}")
+    CreationStatus creationStatus(@PathVariable UUID requestId) {
+        return Optional.ofNullable(creationQueue)
+                .flatMap(queue -> queue.status(requestId))
+                .orElseThrow(() -> new ResponseStatusException(
+                        org.springframework.http.HttpStatus.NOT_FOUND, "Unknown creation request: " + requestId));
+    }
+
+    @GetMapping("/queue")
+    QueueStats queueStats() {
+        if (creationQueue == null) {
+            throw new ResponseStatusException(
+                    org.springframework.http.HttpStatus.NOT_FOUND, "Async creation mode is disabled");
+        }
+        return creationQueue.stats();
+    }
+
+    /**
+     * 일괄 생성 (요청 한 번에 최대 MAX_BATCH_SIZE건)
+     *
+     * - 리스트 전체에 @Valid를 걸면 한 건만 틀려도 전부 400 → 항목별로 직접 검증
+     * - 유효한 항목만 모아 createAll 한 번으로 생성
+     * - 응답은 요청 순서(index)대로 항목별 결과
+     */
+    @PostMapping("/batch")
+    BatchCreateResponse createAll(@RequestBody List<OrderRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    org.springframework.http.HttpStatus.BAD_REQUEST,
+                    "Batch size must be between 1 and " + MAX_BATCH_SIZE + ": " + requests.size());
+        }
+
+        batchItems.record(requests.size());
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        List<OrderRequest> validRequests = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                validRequests.add(requests.get(i));
+            } else {
+                results[i] = BatchItemResult.invalid(i, errors);
+            }
+        }
+
+        if (!validRequests.isEmpty()) {
+            List<Order> created = orderService.createAll(validRequests);
+            if (created.size() != validRequests.size()) {
+                throw new IllegalStateException("createAll returned " + created.size() + " orders for "
+                        + validRequests.size() + " requests");
+            }
+            onCreated(created);
+            for (int i = 0; i < created.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = BatchItemResult.created(index, created.get(i));
+            }
+        }
+        return BatchCreateResponse.of(List.of(results));
+    }
+
+    private List<String> validate(OrderRequest request) {
+        if (request == null) {
+            return List.of("must not be null");
+        }
+        return validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,235 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 주문 생성 큐 (orders.creation.mode=async)
+ *
+ * 동작 방식:
+ * - submit: 용량이 남아 있으면 추적 id 발급 후 즉시 반환, 가득 차면 거절 (→ 429)
+ * - writer 스레드 하나가 큐에서 최대 maxBatchSize건씩 꺼내 createAll 한 번으로 저장
+ * - 요청 처리 지연이 저장소 쓰기 지연과 분리됨 (요청 스레드는 큐에 넣기만 함)
+ *
+ * 주의사항:
+ * - 프로세스 내 메모리 큐 → 프로세스가 죽으면 대기 중인 요청은 유실
+ * - 완료된 상태는 최근 maxRetained건만 보관 (오래된 것부터 제거)
+ */
+final class OrderCreationQueue implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final OrderService orderService;
+
+    private final Consumer<List<Order>> onCreated;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final int maxBatchSize;
+
+    private final int maxRetained;
+
+    private final ConcurrentMap<UUID, CreationStatus> statuses = new ConcurrentHashMap<>();
+
+    // 완료 순서 (writer 스레드에서만 접근)
+    private final Deque<UUID> completed = new ArrayDeque<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong created = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong batches = new AtomicLong();
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    // submit의 running 확인 + offer와 종료 시 running = false를 같은 락으로 묶음
+    // → 종료가 시작된 뒤에 큐에 들어가 아무도 처리하지 않는 (PENDING으로 남는) 요청이 없음
+    private final Object submitLock = new Object();
+
+    OrderCreationQueue(
+            OrderService orderService,
+            Consumer<List<Order>> onCreated,
+            int capacity,
+            int maxBatchSize,
+            int maxRetained) {
+        if (capacity <= 0 || maxBatchSize <= 0 || maxRetained <= 0) {
+            throw new IllegalArgumentException("capacity, maxBatchSize and maxRetained must be positive");
+        }
+        this.orderService = orderService;
+        this.onCreated = onCreated;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxRetained = maxRetained;
+        this.writer = Thread.ofPlatform().name("order-creation-writer").daemon().start(this::drain);
+    }
+
+    enum State {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+
+    record CreationStatus(UUID requestId, State state, Order order, String error) {
+        static CreationStatus pending(UUID requestId) {
+            return new CreationStatus(requestId, State.PENDING, null, null);
+        }
+    }
+
+    record QueueStats(int depth, int capacity, long accepted, long rejected, long created, long failed, long batches) {}
+
+    private record Pending(UUID requestId, OrderRequest request) {}
+
+    /**
+     * @return 추적 id (큐가 가득 찼거나 종료 중이면 empty)
+     */
+    Optional<UUID> submit(OrderRequest request) {
+        UUID requestId = UUID.randomUUID();
+        statuses.put(requestId, CreationStatus.pending(requestId));
+        boolean offered;
+        synchronized (submitLock) {
+            offered = running && queue.offer(new Pending(requestId, request));
+        }
+        if (!offered) {
+            statuses.remove(requestId);
+            rejected.incrementAndGet();
+            return Optional.empty();
+        }
+        accepted.incrementAndGet();
+        return Optional.of(requestId);
+    }
+
+    Optional<CreationStatus> status(UUID requestId) {
+        return Optional.ofNullable(statuses.get(requestId));
+    }
+
+    QueueStats stats() {
+        return new QueueStats(
+                queue.size(),
+                queue.size() + queue.remainingCapacity(),
+                accepted.get(),
+                rejected.get(),
+                created.get(),
+                failed.get(),
+                batches.get());
+    }
+
+    /**
+     * 새 요청을 막고, 이미 받은 요청을 모두 저장한 뒤 writer 종료
+     */
+    @Override
+    public void close() {
+        stopAccepting();
+        try {
+            writer.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                stopAccepting();
+            } catch (RuntimeException e) {
+                // writer가 죽으면 이후 요청이 모두 PENDING으로 남음 → 예외는 배치 단위로 격리
+                batch.stream()
+                        .filter(pending -> isPending(pending.requestId()))
+                        .forEach(pending -> {
+                            failed.incrementAndGet();
+                            complete(failure(pending.requestId(), e));
+                        });
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 인터럽트로 먼저 끝난 경우 남은 요청은 저장되지 않음 → PENDING 대신 FAILED로 기록
+        List<Pending> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        RuntimeException shutdown = new IllegalStateException("Order creation queue was shut down");
+        leftover.forEach(pending -> {
+            failed.incrementAndGet();
+            complete(failure(pending.requestId(), shutdown));
+        });
+    }
+
+    private void stopAccepting() {
+        synchronized (submitLock) {
+            running = false;
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        batches.incrementAndGet();
+        List<Order> orders;
+        try {
+            orders = orderService.createAll(batch.stream().map(Pending::request).toList());
+            if (orders.size() != batch.size()) {
+                throw new IllegalStateException(
+                        "createAll returned " + orders.size() + " orders for " + batch.size() + " requests");
+            }
+        } catch (RuntimeException e) {
+            // 배치 단위로 저장되므로 실패도 배치 전체에 기록
+            failed.addAndGet(batch.size());
+            batch.forEach(pending -> complete(failure(pending.requestId(), e)));
+            return;
+        }
+
+        created.addAndGet(orders.size());
+        try {
+            onCreated.accept(orders);
+        } finally {
+            // 콜백이 실패해도 주문은 이미 저장됨 → CREATED로 기록하고 예외는 drain()에서 처리
+            for (int i = 0; i < batch.size(); i++) {
+                UUID requestId = batch.get(i).requestId();
+                complete(new CreationStatus(requestId, State.CREATED, orders.get(i), null));
+            }
+        }
+    }
+
+    private boolean isPending(UUID requestId) {
+        CreationStatus status = statuses.get(requestId);
+        return status != null && status.state() == State.PENDING;
+    }
+
+    private static CreationStatus failure(UUID requestId, RuntimeException e) {
+        return new CreationStatus(requestId, State.FAILED, null, e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+
+    private void complete(CreationStatus status) {
+        statuses.put(status.requestId(), status);
+        completed.add(status.requestId());
+        while (completed.size() > maxRetained) {
+            statuses.remove(completed.poll());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.s05_spring_test.annotation.OrderCreationQueue.CreationStatus;
+import com.seoki.testinglab.s05_spring_test.annotation.OrderCreationQueue.State;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.*;
+
+/**
+ * OrderCreationQueue 단위 테스트
+ *
+ * - writer 스레드를 래치로 붙잡아 두고 큐 상태(배치 크기, 백프레셔)를 결정적으로 검증
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OrderCreationQueueTest {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    GatedOrderService orderService = new GatedOrderService();
+
+    List<Order> createdCallbacks = Collections.synchronizedList(new ArrayList<>());
+
+    OrderCreationQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        orderService.open();
+        queue.close();
+    }
+
+    @Test
+    void 제출하면_PENDING이었다가_저장_후_CREATED가_된다() throws Exception {
+        queue = new OrderCreationQueue(orderService, createdCallbacks::addAll, 10, 10, 100);
+        orderService.blockNextCall();
+
+        UUID requestId = queue.submit(new OrderRequest("상품", 1000)).orElseThrow();
+        assertThat(queue.status(requestId)).map(CreationStatus::state).contains(State.PENDING);
+
+        orderService.open();
+        CreationStatus status = awaitCompletion(requestId);
+
+        assertThat(status.state()).isEqualTo(State.CREATED);
+        assertThat(status.order().productName()).isEqualTo("상품");
+        assertThat(createdCallbacks).containsExactly(status.order());
+    }
+
+    @Test
+    void writer가_밀려_있으면_대기_중인_요청을_한_배치로_저장한다() throws Exception {
+        queue = new OrderCreationQueue(orderService, createdCallbacks::addAll, 100, 50, 1000);
+        orderService.blockNextCall();
+        queue.submit(new OrderRequest("첫 요청", 1000)).orElseThrow();
+        orderService.awaitBlocked();
+
+        List<UUID> requestIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            requestIds.add(queue.submit(new OrderRequest("상품" + i, 1000)).orElseThrow());
+        }
+        orderService.open();
+        requestIds.forEach(this::awaitCompletion);
+
+        // 첫 요청 1건 + 밀려 있던 30건
+        assertThat(orderService.batchSizes).containsExactly(1, 30);
+        assertThat(queue.stats().batches()).isEqualTo(2);
+    }
+
+    @Test
+    void 큐가_가득_차면_거절한다() throws Exception {
+        queue = new OrderCreationQueue(orderService, createdCallbacks::addAll, 2, 10, 100);
+        orderService.blockNextCall();
+        queue.submit(new OrderRequest("writer가 붙잡은 요청", 1000)).orElseThrow();
+        orderService.awaitBlocked();
+
+        assertThat(queue.submit(new OrderRequest("상품1", 1000))).isPresent();
+        assertThat(queue.submit(new OrderRequest("상품2", 1000))).isPresent();
+        assertThat(queue.submit(new OrderRequest("상품3", 1000))).isEmpty();
+
+        OrderCreationQueue.QueueStats stats = queue.stats();
+        assertThat(stats.depth()).isEqualTo(2);
+        assertThat(stats.capacity()).isEqualTo(2);
+        assertThat(stats.accepted()).isEqualTo(3);
+        assertThat(stats.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void 저장에_실패하면_배치_전체가_FAILED() throws Exception {
+        queue = new OrderCreationQueue(
+                new StubOrderService() {
+                    @Override
+                    public List<Order> createAll(List<OrderRequest> requests) {
+                        throw new IllegalStateException("DB down");
+                    }
+                },
+                createdCallbacks::addAll,
+                10,
+                10,
+                100);
+
+        UUID requestId = queue.submit(new OrderRequest("상품", 1000)).orElseThrow();
+        CreationStatus status = awaitCompletion(requestId);
+
+        assertThat(status.state()).isEqualTo(State.FAILED);
+        assertThat(status.error()).contains("DB down");
+        assertThat(queue.stats().failed()).isEqualTo(1);
+        assertThat(createdCallbacks).isEmpty();
+    }
+
+    @Test
+    void 저장_후_콜백이_실패해도_writer는_다음_배치를_처리한다() {
+        queue = new OrderCreationQueue(
+                orderService,
+                orders -> {
+                    throw new IllegalStateException("callback failed");
+                },
+                10,
+                1,
+                100);
+
+        UUID first = queue.submit(new OrderRequest("상품1", 1000)).orElseThrow();
+        UUID second = queue.submit(new OrderRequest("상품2", 1000)).orElseThrow();
+
+        // 주문은 이미 저장됐으므로 CREATED, writer 스레드가 살아 있어 두 번째 배치도 처리됨
+        assertThat(awaitCompletion(first).state()).isEqualTo(State.CREATED);
+        assertThat(awaitCompletion(second).state()).isEqualTo(State.CREATED);
+        assertThat(queue.stats().batches()).isEqualTo(2);
+    }
+
+    @Test
+    void 종료하면_이미_받은_요청은_모두_저장하고_새_요청은_거절한다() {
+        queue = new OrderCreationQueue(orderService, createdCallbacks::addAll, 100, 10, 1000);
+        for (int i = 0; i < 25; i++) {
+            queue.submit(new OrderRequest("상품" + i, 1000)).orElseThrow();
+        }
+
+        queue.close();
+
+        assertThat(queue.stats().created()).isEqualTo(25);
+        assertThat(queue.submit(new OrderRequest("늦은 요청", 1000))).isEmpty();
+    }
+
+    @Test
+    void 종료와_동시에_받은_요청도_모두_저장한다() throws Exception {
+        queue = new OrderCreationQueue(orderService, createdCallbacks::addAll, 100_000, 100, 1_000_000);
+        List<UUID> acceptedIds = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> submitters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            submitters.add(Thread.ofPlatform().start(() -> {
+                started.countDown();
+                Optional<UUID> requestId;
+                while ((requestId = queue.submit(new OrderRequest("상품", 1000))).isPresent()) {
+                    acceptedIds.add(requestId.get());
+                }
+            }));
+        }
+        started.await();
+
+        queue.close();
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+
+        // 종료 직전에 받은 요청이 큐에 남아 PENDING으로 멈추지 않음
+        assertThat(acceptedIds)
+                .isNotEmpty()
+                .allSatisfy(requestId -> assertThat(queue.status(requestId))
+                        .map(CreationStatus::state)
+                        .contains(State.CREATED));
+        assertThat(queue.stats().created()).isEqualTo(acceptedIds.size());
+    }
+
+    @Test
+    void 완료된_상태는_최근_maxRetained건만_보관한다() {
+        queue = new OrderCreationQueue(orderService, createdCallbacks::addAll, 10, 1, 2);
+        UUID first = queue.submit(new OrderRequest("상품1", 1000)).orElseThrow();
+        awaitCompletion(first);
+        UUID second = queue.submit(new OrderRequest("상품2", 1000)).orElseThrow();
+        awaitCompletion(second);
+        UUID third = queue.submit(new OrderRequest("상품3", 1000)).orElseThrow();
+        awaitCompletion(third);
+
+        assertThat(queue.status(first)).isEmpty();
+        assertThat(queue.status(second)).isPresent();
+        assertThat(queue.status(third)).isPresent();
+    }
+
+    private CreationStatus awaitCompletion(UUID requestId) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<CreationStatus> status = queue.status(requestId);
+            if (status.isPresent() && status.get().state() != State.PENDING) {
+                return status.get();
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        throw new AssertionError("Not completed within " + TIMEOUT + ": " + requestId);
+    }
+
+    /**
+     * blockNextCall() 이후 첫 createAll 호출을 open()까지 붙잡아 두는 Service
+     */
+    static class GatedOrderService extends StubOrderService {
+
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        private final AtomicLong ids = new AtomicLong();
+
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        void blockNextCall() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        @Override
+        public List<Order> createAll(List<OrderRequest> requests) {
+            blocked.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchSizes.add(requests.size());
+            return requests.stream()
+                    .map(request -> new Order(ids.incrementAndGet(), request.productName(), request.amount()))
+                    .toList();
+        }
+    }
+}
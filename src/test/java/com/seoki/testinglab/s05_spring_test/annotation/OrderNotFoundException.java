@@ -0,0 +1,23 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import org.springframework.web.bind.annotation.*;
+
+@ResponseStatus(org.springframework.http.HttpStatus.NOT_FOUND)
+class OrderNotFoundException extends RuntimeException {
+    OrderNotFoundException(Long id) {
+        super("Order not found: " + id);
+    }
+
+    private OrderNotFoundException(Long id, boolean writableStackTrace) {
+        super("Order not found: " + id, null, writableStackTrace, writableStackTrace);
+    }
+
+    /**
+     * 스택 트레이스를 채우지 않는 404 예외
+     * - fillInStackTrace 비용(스택 깊이에 비례)이 없음 → 404가 많은 경로에서 사용
+     * - 로그에 스택이 남지 않으므로 원인 추적이 필요한 곳에는 쓰지 않음
+     */
+    static OrderNotFoundException stackless(Long id) {
+        return new OrderNotFoundException(id, false);
+    }
+}
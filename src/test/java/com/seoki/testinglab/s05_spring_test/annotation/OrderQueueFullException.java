@@ -0,0 +1,10 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import org.springframework.web.bind.annotation.*;
+
+@ResponseStatus(org.springframework.http.HttpStatus.TOO_MANY_REQUESTS)
+class OrderQueueFullException extends RuntimeException {
+    OrderQueueFullException() {
+        super("Order creation queue is full");
+    }
+}
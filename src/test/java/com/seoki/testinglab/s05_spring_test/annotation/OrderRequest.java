@@ -0,0 +1,5 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+record OrderRequest(
+        @jakarta.validation.constraints.NotBlank String productName,
+        @jakarta.validation.constraints.Positive int amount) {}
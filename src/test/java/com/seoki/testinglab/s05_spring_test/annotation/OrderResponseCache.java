@@ -0,0 +1,77 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 주문 조회 응답 캐시 (orders.response-cache.enabled=true일 때만 사용)
+ *
+ * - 본문 객체와 ETag를 함께 보관 → 적중하면 Service 호출과 ETag 계산을 모두 생략
+ * - 비활성화 상태에서는 매번 loader를 호출하고 ETag만 계산
+ * - 주문이 생성되면 전체 무효화 (단건/목록 응답이 모두 바뀔 수 있음)
+ * - 항목 수가 상한에 도달하면 더 저장하지 않음 (무효화 주기가 짧다는 전제의 단순한 상한)
+ *
+ * 무효화 경쟁:
+ * - 조회 도중 무효화가 일어나면 조회 결과는 이미 낡았을 수 있음
+ * - 조회 전후의 세대(generation)가 다르면 저장하지 않음
+ */
+final class OrderResponseCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final boolean enabled;
+
+    private final int maxEntries;
+
+    private final ConcurrentMap<String, Cached<?>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    OrderResponseCache(boolean enabled, int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    record Cached<T>(T body, String etag) {}
+
+    /**
+     * loader가 예외를 던지면(예: 404) 캐싱하지 않고 그대로 전파
+     */
+    @SuppressWarnings("unchecked")
+    <T> Cached<T> get(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return load(loader);
+        }
+        Cached<T> cached = (Cached<T>) entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long before = generation.get();
+        Cached<T> loaded = load(loader);
+        if (entries.size() < maxEntries) {
+            entries.putIfAbsent(key, loaded);
+            // put과 무효화가 겹친 경우 방금 넣은 값을 되돌림
+            if (generation.get() != before) {
+                entries.remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static <T> Cached<T> load(Supplier<T> loader) {
+        T body = loader.get();
+        return new Cached<>(body, ContentETag.of(body));
+    }
+}
@@ -0,0 +1,28 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+interface OrderService {
+    List<Order> findAll();
+
+    /**
+     * 전체 주문을 커서 기반으로 순회 (호출한 쪽에서 반드시 close)
+     */
+    Stream<Order> streamAll();
+
+    /**
+     * id가 after보다 큰 주문을 id 오름차순으로 최대 limit건 조회 (after가 null이면 처음부터)
+     */
+    List<Order> findAllAfter(Long after, int limit);
+
+    Optional<Order> findById(Long id);
+
+    Order create(OrderRequest request);
+
+    /**
+     * 일괄 생성 (결과는 요청과 같은 순서, 같은 개수)
+     */
+    List<Order> createAll(List<OrderRequest> requests);
+}
@@ -0,0 +1,91 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * GET /api/orders NDJSON 스트리밍 응답 테스트
+ *
+ * 핵심 개념:
+ * - Accept: application/x-ndjson → OrderService.streamAll()을 한 건씩 직렬화 (StreamingResponseBody)
+ * - 그 외 Accept → 기존 findAll() (List 전체를 한 번에 직렬화)
+ * - StreamingResponseBody는 비동기 처리 → MockMvc에서는 asyncDispatch로 결과 확인
+ */
+@WebMvcTest(OrderController.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.ORDER_API_MOCKS)
+class OrderStreamingTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    OrderService orderService;
+
+    @Test
+    void NDJSON_요청은_한_줄에_주문_하나씩_응답한다() throws Exception {
+        given(orderService.streamAll())
+                .willReturn(Stream.of(new Order(1L, "keyboard", 1000), new Order(2L, "mouse", 2000)));
+
+        MvcResult result = mockMvc.perform(get("/api/orders").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content()
+                        .string("{\"id\":1,\"productName\":\"keyboard\",\"amount\":1000}\n"
+                                + "{\"id\":2,\"productName\":\"mouse\",\"amount\":2000}\n"));
+        then(orderService).should(never()).findAll();
+    }
+
+    @Test
+    void 응답을_다_쓰면_Stream을_닫는다() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        given(orderService.streamAll())
+                .willReturn(IntStream.rangeClosed(1, 1_000)
+                        .mapToObj(i -> new Order((long) i, "상품" + i, i))
+                        .onClose(() -> closed.set(true)));
+
+        MvcResult result = mockMvc.perform(get("/api/orders").accept(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines()).hasSize(1_000);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void Accept_헤더가_없으면_기존_JSON_배열로_응답한다() throws Exception {
+        given(orderService.findAll()).willReturn(List.of(new Order(1L, "상품1", 1000)));
+
+        mockMvc.perform(get("/api/orders"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(1L));
+        then(orderService).should(never()).streamAll();
+    }
+}
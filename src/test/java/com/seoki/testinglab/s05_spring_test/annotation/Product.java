@@ -0,0 +1,3 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+record Product(Long id, String name, int price) {}
@@ -0,0 +1,49 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/products")
+class ProductController {
+
+    private final ProductService productService;
+
+    private final DistributionSummary findAllItems;
+
+    private final DistributionSummary findPageItems;
+
+    ProductController(ProductService productService, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.productService = productService;
+        ApiMetrics metrics = new ApiMetrics(meterRegistry, "products");
+        this.findAllItems = metrics.responseItems("findAll");
+        this.findPageItems = metrics.responseItems("findPage");
+    }
+
+    @GetMapping
+    List<Product> findAll(WebRequest request) {
+        List<Product> products = productService.findAll();
+        findAllItems.record(products.size());
+        return request.checkNotModified(ContentETag.of(products)) ? null : products;
+    }
+
+    @GetMapping(params = "limit")
+    CursorPage<Object> findPage(
+            @RequestParam @Min(1) @Max(CursorPage.MAX_LIMIT) int limit,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Set<String> fields,
+            WebRequest request) {
+        SparseFieldset<Product> fieldset = SparseFieldset.of(Product.class, fields);
+        CursorPage<Object> page = CursorPage.of(productService.findAllAfter(after, limit + 1), limit, Product::id)
+                .map(fieldset::apply);
+        findPageItems.record(page.items().size());
+        return request.checkNotModified(ContentETag.of(page)) ? null : page;
+    }
+}
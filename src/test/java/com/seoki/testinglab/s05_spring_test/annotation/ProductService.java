@@ -0,0 +1,12 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+
+interface ProductService {
+    List<Product> findAll();
+
+    /**
+     * id가 after보다 큰 상품을 id 오름차순으로 최대 limit건 조회 (after가 null이면 처음부터)
+     */
+    List<Product> findAllAfter(Long after, int limit);
+}
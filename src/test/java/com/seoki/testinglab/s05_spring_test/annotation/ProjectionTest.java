@@ -0,0 +1,84 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * DTO(record) 프로젝션 학습 테스트
+ *
+ * 핵심 개념:
+ * - 엔티티 조회: 모든 컬럼 SELECT + 영속성 컨텍스트에 등록 (스냅샷 보관, 더티 체킹 대상)
+ * - DTO 조회: 필요한 컬럼만 SELECT + 영속성 컨텍스트와 무관
+ *
+ * 실무 포인트:
+ * - 수정하지 않는 목록 조회는 DTO 프로젝션이 기본
+ * - JPQL 생성자 표현식(SELECT new ...)은 패키지명까지 전부 적어야 함
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
+public class ProjectionTest {
+
+    @Nested
+    @DataJpaTest
+    class DTO_프로젝션 {
+
+        @Autowired
+        TestEntityManager em;
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @BeforeEach
+        void setUp() {
+            em.persist(new Member("김철수", "kim@test.com"));
+            em.persist(new Member("이영희", "lee@test.com"));
+            em.persist(new Member("김영수", "kim2@other.com"));
+            em.flush();
+            em.clear();
+        }
+
+        @Test
+        void 이름_접두사로_필요한_컬럼만_조회한다() {
+            List<MemberSummary> summaries = memberRepository.findSummariesByNameStartingWith("김");
+
+            assertThat(summaries)
+                    .extracting(MemberSummary::name, MemberSummary::email)
+                    .containsExactlyInAnyOrder(tuple("김철수", "kim@test.com"), tuple("김영수", "kim2@other.com"));
+            assertThat(summaries).extracting(MemberSummary::id).doesNotContainNull();
+        }
+
+        @Test
+        void 도메인으로_필요한_컬럼만_조회한다() {
+            List<MemberSummary> summaries = memberRepository.findSummariesByEmailDomain("test.com");
+
+            assertThat(summaries).extracting(MemberSummary::name).containsExactlyInAnyOrder("김철수", "이영희");
+        }
+
+        @Test
+        void 엔티티_조회는_영속성_컨텍스트에_등록된다() {
+            memberRepository.findByNameStartingWith("김");
+
+            assertThat(managedEntityCount()).isEqualTo(2);
+        }
+
+        @Test
+        void DTO_조회는_영속성_컨텍스트에_등록되지_않는다() {
+            memberRepository.findSummariesByNameStartingWith("김");
+
+            assertThat(managedEntityCount()).isZero();
+        }
+
+        private int managedEntityCount() {
+            return em.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+        }
+    }
+}
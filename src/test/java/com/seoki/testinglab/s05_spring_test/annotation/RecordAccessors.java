@@ -0,0 +1,42 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 레코드 접근자(accessor) 조회 유틸
+ *
+ * - 타입별로 한 번만 리플렉션 조회 후 ClassValue에 캐싱
+ * - 접근자 이름 = 레코드 컴포넌트 이름 (JSON 필드명과 동일)
+ */
+final class RecordAccessors {
+
+    private static final ClassValue<List<Method>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(Class<?> type) {
+            return Arrays.stream(type.getRecordComponents())
+                    .map(RecordComponent::getAccessor)
+                    .toList();
+        }
+    };
+
+    private RecordAccessors() {}
+
+    /**
+     * 선언 순서대로 정렬된 접근자 목록
+     */
+    static List<Method> of(Class<? extends Record> type) {
+        return ACCESSORS.get(type);
+    }
+
+    static Object read(Method accessor, Record record) {
+        try {
+            return accessor.invoke(record);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + accessor.getName() + " of " + record, e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data 리포지토리 메서드의 결과 크기 지표
+ *
+ * - 호출 시간 백분위, 예외: Spring Boot가 자동 기록하는 spring.data.repository.invocations
+ *   (repository, method, state 태그) → 모든 리포지토리 메서드가 이미 측정됨
+ * - 호출 리스너는 반환값을 받지 못하므로 결과 크기만 프록시 어드바이스로 추가
+ *   spring.data.repository.results (repository, method 태그)
+ * - Collection → 크기, Slice/Page → 내용 크기, Optional → 0/1
+ * - Stream은 기록하지 않음 (소비 전이라 크기를 알 수 없고, 세려면 전체를 읽어야 함)
+ * - count, exists처럼 컬렉션이 아닌 반환값도 기록하지 않음
+ *
+ * 전체 컨텍스트에서만 등록됨 (@DataJpaTest 슬라이스는 @Component를 스캔하지 않음)
+ */
+@Component
+class RepositoryResultMetrics implements BeanPostProcessor {
+
+    static final String RESULTS = "spring.data.repository.results";
+
+    // BeanPostProcessor는 일찍 만들어지므로 레지스트리는 첫 호출 때 꺼냄
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    RepositoryResultMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) ->
+                            proxyFactory.addAdvice(new ResultSizeInterceptor(information.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+
+    static long sizeOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private final class ResultSizeInterceptor implements MethodInterceptor {
+
+        private final Class<?> repositoryInterface;
+
+        // findAll처럼 상속받은 메서드는 리포지토리마다 같은 Method → 리포지토리별로 따로 보관
+        private final ConcurrentMap<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+        ResultSizeInterceptor(Class<?> repositoryInterface) {
+            this.repositoryInterface = repositoryInterface;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            long size = sizeOf(result);
+            if (size >= 0) {
+                DistributionSummary summary = summaries.computeIfAbsent(invocation.getMethod(), this::summary);
+                if (summary != null) {
+                    summary.record(size);
+                }
+            }
+            return result;
+        }
+
+        private DistributionSummary summary(Method method) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+            return DistributionSummary.builder(RESULTS)
+                    .description("Number of elements returned by a repository method")
+                    .baseUnit("elements")
+                    .tags("repository", repositoryInterface.getSimpleName(), "method", method.getName())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 2차 캐시 + 쿼리 캐시 학습 테스트
+ *
+ * 핵심 개념:
+ * - 1차 캐시: 영속성 컨텍스트(트랜잭션) 범위
+ * - 2차 캐시: SessionFactory(애플리케이션) 범위, 트랜잭션이 끝나도 유지
+ * - 쿼리 캐시: 쿼리+파라미터 → 결과 id 목록, 테이블이 변경되면 자동 무효화
+ *
+ * 실무 포인트:
+ * - 쿼리 캐시 무효화는 커밋 시점에 일어남 → 롤백 테스트(@DataJpaTest 기본)로는 검증 불가
+ *   → NOT_SUPPORTED로 트랜잭션을 끄고 실제 커밋으로 검증
+ * - Hibernate를 거치지 않는 쓰기(JDBC, 다른 애플리케이션)는 캐시가 알 수 없음
+ * - 크기 제한 없는 캐시는 메모리 누수와 같음 → 리전마다 최대 크기 설정
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.H2_DATASOURCE)
+public class SecondLevelCacheTest {
+
+    @Nested
+    @DataJpaTest
+    @ActiveProfiles("member-cache")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 매 호출이 각자 커밋
+    class 이메일_조회_캐시 {
+
+        @Autowired
+        MemberRepository memberRepository;
+
+        @Autowired
+        EntityManagerFactory entityManagerFactory;
+
+        MemberCacheMetrics metrics;
+
+        @BeforeEach
+        void setUp() {
+            memberRepository.deleteAllInBatch();
+            entityManagerFactory.getCache().evictAll();
+            metrics = new MemberCacheMetrics(entityManagerFactory);
+            metrics.clear();
+        }
+
+        @AfterEach
+        void tearDown() {
+            memberRepository.deleteAllInBatch();
+        }
+
+        @Test
+        void 같은_이메일을_다시_조회하면_쿼리_캐시에서_읽는다() {
+            memberRepository.save(new Member("홍길동", "hong@test.com"));
+
+            memberRepository.findByEmail("hong@test.com"); // 미스 → DB 조회 후 저장
+            memberRepository.findByEmail("hong@test.com"); // 적중
+
+            assertThat(metrics.emailQueryRegion().misses()).isEqualTo(1);
+            assertThat(metrics.emailQueryRegion().hits()).isEqualTo(1);
+        }
+
+        @Test
+        void 쿼리_캐시에_적중하면_엔티티는_엔티티_캐시에서_읽는다() {
+            memberRepository.save(new Member("홍길동", "hong@test.com"));
+            memberRepository.findByEmail("hong@test.com");
+            metrics.clear();
+
+            memberRepository.findByEmail("hong@test.com");
+
+            // 쿼리 캐시는 id만 보관 → 엔티티는 members 리전에서 조립
+            assertThat(metrics.entityRegion().hits()).isEqualTo(1);
+        }
+
+        @Test
+        void 저장하면_존재_여부_캐시가_무효화된다() {
+            assertThat(memberRepository.existsByEmail("new@test.com")).isFalse(); // false가 캐시됨
+
+            memberRepository.save(new Member("신규", "new@test.com"));
+
+            assertThat(memberRepository.existsByEmail("new@test.com")).isTrue();
+        }
+
+        @Test
+        void 삭제하면_이메일_조회_캐시가_무효화된다() {
+            Member member = memberRepository.save(new Member("탈퇴", "bye@test.com"));
+            assertThat(memberRepository.findByEmail("bye@test.com")).isPresent(); // 결과가 캐시됨
+
+            memberRepository.delete(member);
+
+            assertThat(memberRepository.findByEmail("bye@test.com")).isEmpty();
+        }
+
+        @Test
+        void JDBC_배치_삽입_후에도_캐시가_무효화된다() {
+            assertThat(memberRepository.existsByEmail("bulk@test.com")).isFalse();
+
+            memberRepository.insertAllInBatch(List.of(new Member("배치", "bulk@test.com")), 100);
+
+            assertThat(memberRepository.existsByEmail("bulk@test.com")).isTrue();
+        }
+    }
+}
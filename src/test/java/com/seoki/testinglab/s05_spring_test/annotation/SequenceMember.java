@@ -0,0 +1,50 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * SEQUENCE + pooled 옵티마이저 id 전략 비교용 엔티티
+ *
+ * - IDENTITY: INSERT를 실행해야 id를 알 수 있음 → persist 즉시 INSERT, JDBC 배치 불가
+ * - SEQUENCE: 시퀀스에서 id를 먼저 받음 → INSERT를 flush 시점까지 미루고 배치로 전송
+ * - allocationSize = 50: 시퀀스 호출 1번으로 id 50개 확보 (pooled 옵티마이저)
+ */
+@Entity
+@Table(name = "sequence_members")
+class SequenceMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_member_seq")
+    @SequenceGenerator(name = "sequence_member_seq", sequenceName = "sequence_members_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, unique = true)
+    private String email;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    protected SequenceMember() {} // JPA용
+
+    SequenceMember(String name, String email) {
+        this.name = name;
+        this.email = email;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getEmail() {
+        return email;
+    }
+}
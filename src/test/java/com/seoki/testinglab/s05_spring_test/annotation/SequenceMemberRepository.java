@@ -0,0 +1,5 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface SequenceMemberRepository extends JpaRepository<SequenceMember, Long> {}
@@ -0,0 +1,79 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 한 번의 호출로 합치는 single-flight
+ *
+ * 동작 방식:
+ * - 먼저 도착한 스레드(leader)만 loader를 실행
+ * - 실행 중에 같은 키로 들어온 스레드(follower)는 leader의 결과를 기다렸다가 공유
+ * - 실행이 끝나면 키를 제거 → 결과를 캐싱하지 않음 (캐시와는 별개의 장치)
+ *
+ * 주의사항:
+ * - loader가 예외를 던지면 follower도 같은 예외를 받음
+ * - follower는 leader가 끝날 때까지 블로킹 → loader 자체의 타임아웃이 필요
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong executions = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * loader를 실제로 실행한 횟수
+     */
+    long executions() {
+        return executions.get();
+    }
+
+    /**
+     * 다른 스레드의 실행 결과를 공유받은 횟수
+     */
+    long coalesced() {
+        return coalesced.get();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // leader가 던진 예외를 감싸지 않고 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
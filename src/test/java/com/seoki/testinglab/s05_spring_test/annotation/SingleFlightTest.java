@@ -0,0 +1,208 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * SingleFlight 동시성 테스트
+ *
+ * 검증 방법:
+ * - leader의 loader를 래치로 붙잡아 두고, 나머지 스레드가 모두 합류(coalesced)한 뒤 풀어줌
+ * - loader 실행 횟수 = 1, 모든 스레드가 같은 결과를 받는지 확인
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SingleFlightTest {
+
+    static final int THREADS = 32;
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Nested
+    class 동시_호출_병합 {
+
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        @Test
+        void 같은_키의_동시_호출은_loader를_한_번만_실행하고_결과를_공유한다() throws Exception {
+            List<String> results = runConcurrently(() -> singleFlight.execute(1L, this::slowLoad));
+
+            assertThat(loaderCalls).hasValue(1);
+            assertThat(results).hasSize(THREADS).containsOnly("order-1");
+            assertThat(singleFlight.executions()).isEqualTo(1);
+            assertThat(singleFlight.coalesced()).isEqualTo(THREADS - 1);
+        }
+
+        @Test
+        void leader의_예외는_follower에게도_그대로_전달된다() throws Exception {
+            List<Future<String>> futures = submitConcurrently(() -> singleFlight.execute(1L, () -> {
+                slowLoad();
+                throw new IllegalStateException("backend down");
+            }));
+
+            for (Future<String> future : futures) {
+                assertThatThrownBy(future::get)
+                        .isInstanceOf(ExecutionException.class)
+                        .cause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("backend down");
+            }
+            assertThat(loaderCalls).hasValue(1);
+        }
+
+        @Test
+        void 실행이_끝난_뒤의_호출은_다시_loader를_실행한다() {
+            singleFlight.execute(1L, () -> "first");
+            String second = singleFlight.execute(1L, () -> "second");
+
+            assertThat(second).isEqualTo("second");
+            assertThat(singleFlight.executions()).isEqualTo(2);
+        }
+
+        @Test
+        void 다른_키는_서로_기다리지_않는다() {
+            // 1번 키가 실행 중인 동안(loader 안에서) 2번 키를 호출해도 바로 실행됨
+            String result = singleFlight.execute(1L, () -> "order-1+" + singleFlight.execute(2L, () -> "order-2"));
+
+            assertThat(result).isEqualTo("order-1+order-2");
+            assertThat(singleFlight.coalesced()).isZero();
+        }
+
+        private String slowLoad() {
+            loaderCalls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "order-1";
+        }
+
+        private List<String> runConcurrently(Callable<String> call) throws Exception {
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : submitConcurrently(call)) {
+                results.add(future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            }
+            return results;
+        }
+
+        private List<Future<String>> submitConcurrently(Callable<String> call) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                List<Future<String>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(call));
+                }
+                // 나머지 스레드가 모두 leader의 결과를 기다리기 시작하면 leader를 풀어줌
+                awaitValue(singleFlight::coalesced, THREADS - 1);
+                release.countDown();
+                return futures;
+            }
+        }
+    }
+
+    /**
+     * OrderController.findById에 적용된 single-flight
+     * - 존재하지 않는 주문도 조회는 한 번, 404는 요청마다
+     */
+    @Nested
+    @WebMvcTest(OrderController.class)
+    @ResourceLock(SharedResources.ORDER_API_MOCKS)
+    class 주문_단건_조회 {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        OrderController orderController;
+
+        @MockitoBean
+        OrderService orderService;
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        @Test
+        void 같은_주문에_대한_동시_요청은_Service를_한_번만_호출한다() throws Exception {
+            given(orderService.findById(1L)).willAnswer(invocation -> {
+                release.await();
+                return Optional.of(new Order(1L, "한정판 상품", 10000));
+            });
+
+            List<Integer> statuses = requestConcurrently("/api/orders/1");
+
+            assertThat(statuses).hasSize(THREADS).containsOnly(200);
+            then(orderService).should(times(1)).findById(1L);
+        }
+
+        @Test
+        void 없는_주문도_조회는_한_번이고_모든_요청이_404를_받는다() throws Exception {
+            given(orderService.findById(4_040L)).willAnswer(invocation -> {
+                release.await();
+                return Optional.empty();
+            });
+
+            List<Integer> statuses = requestConcurrently("/api/orders/4040");
+
+            assertThat(statuses).hasSize(THREADS).containsOnly(404);
+            then(orderService).should(times(1)).findById(4_040L);
+        }
+
+        private List<Integer> requestConcurrently(String uri) throws Exception {
+            // 컨텍스트가 테스트 간에 공유되므로 누적값 기준으로 비교
+            SingleFlight<Long, Optional<Order>> flight = orderController.findByIdFlight();
+            long coalescedBefore = flight.coalesced();
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> mockMvc.perform(get(uri)).andReturn().getResponse().getStatus()));
+                }
+                awaitValue(flight::coalesced, coalescedBefore + THREADS - 1);
+                release.countDown();
+
+                List<Integer> statuses = new ArrayList<>();
+                for (Future<Integer> future : futures) {
+                    statuses.add(future.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+                }
+                return statuses;
+            }
+        }
+    }
+
+    private static void awaitValue(LongSupplier actual, long expected) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (actual.getAsLong() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Expected " + expected + " but was " + actual.getAsLong());
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 응답 레코드에서 요청한 필드만 남기는 sparse fieldset (예: ?fields=id,amount)
+ *
+ * - 필드 목록이 없으면 레코드를 그대로 반환 → 기본 직렬화 경로와 동일
+ * - 레코드 접근자는 RecordAccessors에서 타입별로 캐싱된 것을 사용
+ * - 알 수 없는 필드는 400 Bad Request
+ */
+final class SparseFieldset<T extends Record> {
+
+    // null이면 전체 필드
+    private final List<Method> accessors;
+
+    private SparseFieldset(List<Method> accessors) {
+        this.accessors = accessors;
+    }
+
+    static <T extends Record> SparseFieldset<T> of(Class<T> type, Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return new SparseFieldset<>(null);
+        }
+        List<Method> accessors = RecordAccessors.of(type);
+        Set<String> unknown = new TreeSet<>(fields);
+        accessors.forEach(accessor -> unknown.remove(accessor.getName()));
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Unknown fields for " + type.getSimpleName() + ": " + unknown);
+        }
+        // 요청 순서와 무관하게 레코드 선언 순서를 유지
+        return new SparseFieldset<>(accessors.stream()
+                .filter(accessor -> fields.contains(accessor.getName()))
+                .toList());
+    }
+
+    Object apply(T record) {
+        if (accessors == null) {
+            return record;
+        }
+        Map<String, Object> values = new LinkedHashMap<>(accessors.size() * 2);
+        for (Method accessor : accessors) {
+            values.put(accessor.getName(), RecordAccessors.read(accessor, record));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+}
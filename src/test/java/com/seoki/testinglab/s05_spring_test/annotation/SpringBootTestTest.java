@@ -2,7 +2,11 @@ package com.seoki.testinglab.s05_spring_test.annotation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.seoki.testinglab.support.context.SharedSpringBootTest;
+import com.seoki.testinglab.support.context.SharedWebServerTest;
+import com.seoki.testinglab.support.parallel.SharedResources;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
@@ -23,6 +27,12 @@ import org.springframework.test.context.TestPropertySource;
  * - 전체 컨텍스트 로드로 테스트 속도가 느림 → 꼭 필요한 경우만 사용
  * - 슬라이스 테스트(@WebMvcTest, @DataJpaTest)로 해결 안 되는 경우에 사용
  * - E2E 테스트, 여러 레이어 통합 검증 시 적합
+ *
+ * 컨텍스트 공유:
+ * - 설정(webEnvironment, properties, classes ...)이 조금만 달라도 컨텍스트를 새로 로드
+ * - 전체 컨텍스트는 @SharedSpringBootTest(MOCK) / @SharedWebServerTest(RANDOM_PORT) 둘 중 하나로 통일
+ * - DEFINED_PORT, classes 지정은 그 자체가 학습 대상이라 별도 컨텍스트로 유지
+ * - 확인: build/reports/spring-context/contexts.html
  */
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 public class SpringBootTestTest {
@@ -34,7 +44,7 @@ public class SpringBootTestTest {
      * - 가장 빠른 옵션
      */
     @Nested
-    @SpringBootTest(webEnvironment = WebEnvironment.MOCK)
+    @SharedSpringBootTest // = @SpringBootTest(webEnvironment = MOCK, properties = ...)
     class WebEnvironment_MOCK_기본값 {
 
         @Autowired
@@ -72,7 +82,7 @@ public class SpringBootTestTest {
      * - 포트 충돌 방지
      */
     @Nested
-    @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+    @SharedWebServerTest // = @SpringBootTest(webEnvironment = RANDOM_PORT) + metrics 프로파일
     class WebEnvironment_RANDOM_PORT {
 
         @LocalServerPort
@@ -131,6 +141,7 @@ public class SpringBootTestTest {
     @Nested
     @SpringBootTest(webEnvironment = WebEnvironment.DEFINED_PORT)
     @TestPropertySource(properties = "server.port=9999")
+    @ResourceLock(SharedResources.DEFINED_SERVER_PORT)
     class WebEnvironment_DEFINED_PORT {
 
         @LocalServerPort
@@ -144,11 +155,12 @@ public class SpringBootTestTest {
 
     /**
      * properties 속성으로 테스트 전용 설정
+     * - 클래스마다 properties를 다르게 주면 그 조합마다 컨텍스트가 하나씩 늘어남
+     *   → 여러 테스트가 같이 쓰는 프로퍼티는 공유 메타 어노테이션의 properties에 모음
+     * - @SharedSpringBootTest가 지정한 custom.feature.enabled를 확인 (MOCK 컨텍스트 재사용)
      */
     @Nested
-    @SpringBootTest(
-            webEnvironment = WebEnvironment.NONE,
-            properties = {"spring.datasource.url=jdbc:h2:mem:testdb", "custom.feature.enabled=true"})
+    @SharedSpringBootTest // properties = "custom.feature.enabled=true"
     class properties_속성_활용 {
 
         @Autowired
@@ -160,19 +172,12 @@ public class SpringBootTestTest {
 
             assertThat(featureEnabled).isEqualTo("true");
         }
-
-        @Test
-        void 인라인_프로퍼티가_파일_프로퍼티보다_우선한다() {
-            // @SpringBootTest의 properties는 application.properties보다 우선
-            String datasourceUrl = applicationContext.getEnvironment().getProperty("spring.datasource.url");
-
-            assertThat(datasourceUrl).isEqualTo("jdbc:h2:mem:testdb");
-        }
     }
 
     /**
      * classes 속성으로 특정 설정만 로드
      * - 전체 컨텍스트 대신 필요한 설정만 로드하여 속도 개선
+     * - 캐시 키가 달라 별도 컨텍스트지만 빈이 거의 없어 로드 비용이 작음
      */
     @Nested
     @SpringBootTest(
@@ -0,0 +1,39 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+@Service
+class StubOrderService implements OrderService {
+    @Override
+    public List<Order> findAll() {
+        return List.of();
+    }
+
+    @Override
+    public Stream<Order> streamAll() {
+        return Stream.empty();
+    }
+
+    @Override
+    public List<Order> findAllAfter(Long after, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Order create(OrderRequest request) {
+        return null;
+    }
+
+    @Override
+    public List<Order> createAll(List<OrderRequest> requests) {
+        return List.of();
+    }
+}
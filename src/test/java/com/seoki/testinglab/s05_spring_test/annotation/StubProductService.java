@@ -0,0 +1,17 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+class StubProductService implements ProductService {
+    @Override
+    public List<Product> findAll() {
+        return List.of();
+    }
+
+    @Override
+    public List<Product> findAllAfter(Long after, int limit) {
+        return List.of();
+    }
+}
@@ -0,0 +1,168 @@
+package com.seoki.testinglab.s05_spring_test.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 부하 테스트
+ *
+ * 핵심 개념:
+ * - 플랫폼 스레드: 블로킹 I/O 동안 OS 스레드를 점유 → 동시 처리량 = threads.max (200)
+ * - 가상 스레드: 블로킹 시 캐리어 스레드를 반납 → 동시 처리량이 스레드 풀에 묶이지 않음
+ *
+ * 예상 결과 (백엔드 지연 100ms 기준):
+ * - 플랫폼 스레드: 동시 요청 수 / 200 × 100ms 에 수렴 (10,000건 → 약 5초)
+ * - 가상 스레드: 동시 요청 수와 거의 무관하게 100ms + 연결 처리 비용
+ *
+ * 주의사항:
+ * - 기본 test 태스크에서는 제외됨 → ./gradlew loadTest
+ * - 동시 연결 10,000개를 열므로 파일 디스크립터 한도(ulimit -n)를 충분히 높여야 함
+ * - synchronized 블록 안의 블로킹은 캐리어 스레드를 고정(pinning)시켜 효과가 사라짐 (JDK 24 미만)
+ */
+@Tag("load")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class VirtualThreadLoadTest {
+
+    static final Duration BACKEND_LATENCY = Duration.ofMillis(100);
+
+    @Nested
+    @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=false")
+    @Import(BlockingOrderServiceConfig.class)
+    class 플랫폼_스레드 extends LoadScenario {}
+
+    @Nested
+    @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+    @Import(BlockingOrderServiceConfig.class)
+    class 가상_스레드 extends LoadScenario {}
+
+    abstract static class LoadScenario {
+
+        @LocalServerPort
+        int port;
+
+        @ParameterizedTest(name = "동시 요청 {0}건")
+        @ValueSource(ints = {1_000, 5_000, 10_000})
+        void 블로킹_서비스에_동시_요청(int concurrency) throws Exception {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            long start = System.nanoTime();
+            List<Integer> statuses = sendConcurrently(client, concurrency);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            System.out.printf(
+                    "[%s] 동시 요청 %,d건: %,dms (%.0f req/s)%n",
+                    getClass().getSimpleName(),
+                    concurrency,
+                    elapsed.toMillis(),
+                    concurrency / (elapsed.toNanos() / 1_000_000_000.0));
+            assertThat(statuses).hasSize(concurrency).containsOnly(200);
+        }
+
+        private List<Integer> sendConcurrently(HttpClient client, int concurrency) throws Exception {
+            // 클라이언트 쪽이 병목이 되지 않도록 요청마다 가상 스레드 하나
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Integer>> futures = new ArrayList<>(concurrency);
+                for (int i = 0; i < concurrency; i++) {
+                    URI uri = URI.create("http://localhost:" + port + "/api/orders/" + (i + 1));
+                    HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+                    futures.add(clients.submit(() -> client.send(request, BodyHandlers.discarding()).statusCode()));
+                }
+
+                List<Integer> statuses = new ArrayList<>(concurrency);
+                for (Future<Integer> future : futures) {
+                    statuses.add(future.get());
+                }
+                return statuses;
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class BlockingOrderServiceConfig {
+
+        @Bean
+        @Primary
+        OrderService blockingOrderService() {
+            return new BlockingOrderService();
+        }
+    }
+
+    /**
+     * 외부 저장소 호출을 흉내 내는 블로킹 서비스 (Thread.sleep = 블로킹 I/O)
+     */
+    static class BlockingOrderService implements OrderService {
+
+        @Override
+        public List<Order> findAll() {
+            block();
+            return List.of();
+        }
+
+        @Override
+        public Stream<Order> streamAll() {
+            block();
+            return Stream.empty();
+        }
+
+        @Override
+        public List<Order> findAllAfter(Long after, int limit) {
+            block();
+            return List.of();
+        }
+
+        @Override
+        public Optional<Order> findById(Long id) {
+            block();
+            return Optional.of(new Order(id, "상품" + id, 10000));
+        }
+
+        @Override
+        public Order create(OrderRequest request) {
+            block();
+            return new Order(1L, request.productName(), request.amount());
+        }
+
+        @Override
+        public List<Order> createAll(List<OrderRequest> requests) {
+            // 일괄 생성은 저장소 호출 한 번
+            block();
+            return requests.stream()
+                    .map(request -> new Order(1L, request.productName(), request.amount()))
+                    .toList();
+        }
+
+        private static void block() {
+            try {
+                Thread.sleep(BACKEND_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -8,17 +8,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seoki.testinglab.support.parallel.SharedResources;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.ApplicationContext;
 import org.springframework.http.MediaType;
-import org.springframework.stereotype.Service;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.web.bind.annotation.*;
 
 /**
  * @WebMvcTest 학습 테스트
@@ -49,8 +49,11 @@ import org.springframework.web.bind.annotation.*;
  * │  → 웹 레이어만 "슬라이스"해서 테스트                                │
  * │                                                             │
  * └─────────────────────────────────────────────────────────────┘
+ *
+ * 테스트 대상: 같은 패키지의 OrderController, ProductController (Service는 @MockitoBean으로 대체)
  */
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ResourceLock(SharedResources.ORDER_API_MOCKS)
 public class WebMvcTestTest {
 
     /**
@@ -309,102 +312,4 @@ public class WebMvcTestTest {
              */
         }
     }
-
-    // ========== 테스트용 클래스 ==========
-
-    @RestController
-    @RequestMapping("/api/orders")
-    static class OrderController {
-
-        private final OrderService orderService;
-
-        OrderController(OrderService orderService) {
-            this.orderService = orderService;
-        }
-
-        @GetMapping
-        List<Order> findAll() {
-            return orderService.findAll();
-        }
-
-        @GetMapping("/{id}")
-        Order findById(@PathVariable Long id) {
-            return orderService.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
-        }
-
-        @PostMapping
-        @ResponseStatus(org.springframework.http.HttpStatus.CREATED)
-        Order create(@RequestBody @jakarta.validation.Valid OrderRequest request) {
-            return orderService.create(request);
-        }
-    }
-
-    @RestController
-    @RequestMapping("/api/products")
-    static class ProductController {
-
-        private final ProductService productService;
-
-        ProductController(ProductService productService) {
-            this.productService = productService;
-        }
-
-        @GetMapping
-        List<Product> findAll() {
-            return productService.findAll();
-        }
-    }
-
-    interface OrderService {
-        List<Order> findAll();
-
-        Optional<Order> findById(Long id);
-
-        Order create(OrderRequest request);
-    }
-
-    interface ProductService {
-        List<Product> findAll();
-    }
-
-    @Service
-    static class StubOrderService implements OrderService {
-        @Override
-        public List<Order> findAll() {
-            return List.of();
-        }
-
-        @Override
-        public Optional<Order> findById(Long id) {
-            return Optional.empty();
-        }
-
-        @Override
-        public Order create(OrderRequest request) {
-            return null;
-        }
-    }
-
-    @Service
-    static class StubProductService implements ProductService {
-        @Override
-        public List<Product> findAll() {
-            return List.of();
-        }
-    }
-
-    record Order(Long id, String productName, int amount) {}
-
-    record Product(Long id, String name, int price) {}
-
-    record OrderRequest(
-            @jakarta.validation.constraints.NotBlank String productName,
-            @jakarta.validation.constraints.Positive int amount) {}
-
-    @ResponseStatus(org.springframework.http.HttpStatus.NOT_FOUND)
-    static class OrderNotFoundException extends RuntimeException {
-        OrderNotFoundException(Long id) {
-            super("Order not found: " + id);
-        }
-    }
 }
@@ -0,0 +1,170 @@
+package com.seoki.testinglab.s11_fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.s11_fixture.FixtureGenerator.MemberFixture;
+import com.seoki.testinglab.s11_fixture.FixtureGenerator.ProductFixture;
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 대량 테스트 데이터 (시드 기반 생성 + CSV 스냅샷 + CSVREAD 적재) 학습 테스트
+ *
+ * 핵심 개념:
+ * - 행마다 em.persist → 행 수만큼 INSERT 왕복 + 영속성 컨텍스트 관리 → 수십만 건부터 비현실적
+ * - 데이터는 시드로 결정적으로 생성 → 실패를 같은 데이터로 재현
+ * - 생성 결과는 CSV로 JVM당 한 번만 만들고, DB에는 INSERT ... SELECT FROM CSVREAD 한 문장으로 적재
+ *
+ * 실무 포인트:
+ * - 인덱스, 실행 계획, 페이지네이션 성능은 데이터가 적으면 드러나지 않음 → 실제 규모로 검증
+ * - 적재는 JDBC 수준 → 엔티티 콜백, 2차 캐시, 캐시된 카운터는 적재를 모름
+ *
+ * 100만 건 적재는 @Tag("load") → ./gradlew loadTest
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BulkFixtureTest {
+
+    static final long SEED = 42;
+
+    @Nested
+    class 시드_기반_생성 {
+
+        @Test
+        void 같은_시드는_같은_데이터를_만든다() {
+            List<MemberFixture> first = new FixtureGenerator(SEED).members(100).toList();
+            List<MemberFixture> second = new FixtureGenerator(SEED).members(100).toList();
+
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        void 다른_시드는_다른_데이터를_만든다() {
+            List<MemberFixture> first = new FixtureGenerator(SEED).members(100).toList();
+            List<MemberFixture> other = new FixtureGenerator(SEED + 1).members(100).toList();
+
+            assertThat(first).isNotEqualTo(other);
+        }
+
+        @Test
+        void 앞_n건은_전체_개수와_무관하게_같다() {
+            FixtureGenerator generator = new FixtureGenerator(SEED);
+
+            assertThat(generator.members(10).toList())
+                    .isEqualTo(generator.members(1_000).limit(10).toList());
+        }
+
+        @Test
+        void 병렬_스트림으로_만들어도_순서대로_만든_것과_같다() {
+            FixtureGenerator generator = new FixtureGenerator(SEED);
+
+            assertThat(generator.members(10_000).parallel().toList())
+                    .isEqualTo(generator.members(10_000).toList());
+        }
+
+        @Test
+        void email은_unique_제약을_만족한다() {
+            Set<String> emails = new FixtureGenerator(SEED)
+                    .members(10_000)
+                    .map(MemberFixture::email)
+                    .collect(Collectors.toSet());
+
+            assertThat(emails).hasSize(10_000);
+        }
+
+        @Test
+        void 주문의_상품은_생성된_상품_중_하나다() {
+            FixtureGenerator generator = new FixtureGenerator(SEED);
+            Set<String> productNames =
+                    generator.products(20).map(ProductFixture::name).collect(Collectors.toSet());
+
+            assertThat(generator.orders(1_000, 20)).allSatisfy(order -> {
+                assertThat(productNames).contains(order.productName());
+                assertThat(order.amount()).isBetween(1, 10);
+            });
+        }
+    }
+
+    @Nested
+    class CSV_스냅샷 {
+
+        @Test
+        void 같은_키는_JVM_안에서_한_번만_만든다() {
+            Path first = FixtureSnapshots.members(SEED, 1_000);
+            Path second = FixtureSnapshots.members(SEED, 1_000);
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        void 헤더와_생성된_행을_담는다() throws IOException {
+            Path csv = FixtureSnapshots.members(SEED, 1_000);
+
+            List<String> lines = Files.readAllLines(csv);
+
+            assertThat(lines).hasSize(1_001);
+            assertThat(lines.get(0)).isEqualTo(FixtureSnapshots.MEMBER_CSV_HEADER);
+            assertThat(lines.get(1)).isEqualTo(FixtureSnapshots.csv(new FixtureGenerator(SEED).member(0)));
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    @ResourceLock(SharedResources.H2_DATASOURCE)
+    class CSVREAD_적재 {
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void 한_문장으로_적재하고_생성한_데이터와_같은_결과를_조회한다() {
+            int loaded = BulkFixtureLoader.loadMembers(jdbcTemplate, SEED, 10_000);
+
+            long expectedGmail = new FixtureGenerator(SEED)
+                    .members(10_000)
+                    .filter(member -> member.emailDomain().equals("gmail.com"))
+                    .count();
+            assertThat(loaded).isEqualTo(10_000);
+            assertThat(jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM members WHERE email_domain = 'gmail.com'", Long.class))
+                    .isEqualTo(expectedGmail);
+        }
+
+        @Test
+        void 테스트_트랜잭션에_참여하므로_다른_테스트의_적재가_남지_않는다() {
+            BulkFixtureLoader.loadMembers(jdbcTemplate, SEED, 1_000);
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Long.class))
+                    .isEqualTo(1_000);
+        }
+    }
+
+    @Nested
+    @Tag("load")
+    @DataJpaTest
+    @ResourceLock(SharedResources.H2_DATASOURCE)
+    class 백만_건_적재 {
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void 백만_건을_적재한다() {
+            long start = System.nanoTime();
+            int loaded = BulkFixtureLoader.loadMembers(jdbcTemplate, SEED, 1_000_000);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.printf("100만 건 생성 + 적재: %,dms%n", elapsedMillis);
+            assertThat(loaded).isEqualTo(1_000_000);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.seoki.testinglab.s11_fixture;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 시드 기반 대량 테스트 데이터 생성기
+ *
+ * - 같은 시드 = 같은 데이터 → 실패한 테스트를 그대로 재현
+ * - 행마다 (시드, 종류, 인덱스)로 난수를 새로 만듦 → 앞 n건은 전체 개수와 무관하게 같음, 병렬 스트림도 안전
+ * - List로 만들지 않고 Stream으로 흘려보냄 → 100만 건도 힙에 한꺼번에 올라가지 않음
+ * - email은 인덱스로 만들어 unique 제약을 항상 만족
+ */
+public final class FixtureGenerator {
+
+    static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final long MEMBER_SALT = 1;
+    private static final long PRODUCT_SALT = 2;
+    private static final long ORDER_SALT = 3;
+
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "은우", "지호", "예준", "수아"};
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "kakao.com", "daum.net", "test.com"};
+    private static final String[] PRODUCT_NAMES = {"노트북", "키보드", "마우스", "모니터", "헤드셋", "스피커", "태블릿", "충전기"};
+
+    private final long seed;
+
+    public FixtureGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public Stream<MemberFixture> members(int count) {
+        return IntStream.range(0, count).mapToObj(this::member);
+    }
+
+    public Stream<ProductFixture> products(int count) {
+        return IntStream.range(0, count).mapToObj(this::product);
+    }
+
+    /**
+     * 주문의 상품은 products(productCount)의 상품 중 하나
+     */
+    public Stream<OrderFixture> orders(int count, int productCount) {
+        if (productCount <= 0) {
+            throw new IllegalArgumentException("productCount must be positive: " + productCount);
+        }
+        return IntStream.range(0, count).mapToObj(index -> order(index, productCount));
+    }
+
+    MemberFixture member(int index) {
+        SplittableRandom random = random(MEMBER_SALT, index);
+        String domain = DOMAINS[random.nextInt(DOMAINS.length)];
+        return new MemberFixture(
+                FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)],
+                "member" + index + "@" + domain,
+                domain,
+                EPOCH.plusSeconds(random.nextLong(365L * 24 * 60 * 60)));
+    }
+
+    ProductFixture product(int index) {
+        SplittableRandom random = random(PRODUCT_SALT, index);
+        String name = PRODUCT_NAMES[index % PRODUCT_NAMES.length] + " " + (index / PRODUCT_NAMES.length + 1);
+        return new ProductFixture(index + 1L, name, random.nextInt(10, 5_000) * 100);
+    }
+
+    OrderFixture order(int index, int productCount) {
+        SplittableRandom random = random(ORDER_SALT, index);
+        ProductFixture product = product(random.nextInt(productCount));
+        return new OrderFixture(index + 1L, product.name(), random.nextInt(1, 11));
+    }
+
+    private SplittableRandom random(long salt, int index) {
+        // SplittableRandom이 시드를 다시 섞으므로 인접한 시드끼리도 상관관계가 없음
+        return new SplittableRandom((seed * 31 + salt) * 0x9E3779B97F4A7C15L + index);
+    }
+
+    public record MemberFixture(String name, String email, String emailDomain, LocalDateTime createdAt) {}
+
+    public record ProductFixture(long id, String name, int price) {}
+
+    public record OrderFixture(long id, String productName, int amount) {}
+}
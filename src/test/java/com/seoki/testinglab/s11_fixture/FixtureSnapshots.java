@@ -0,0 +1,83 @@
+package com.seoki.testinglab.s11_fixture;
+
+import com.seoki.testinglab.s11_fixture.FixtureGenerator.MemberFixture;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 생성한 데이터를 CSV 파일로 저장해 JVM 안에서 재사용 (JVM당 한 번 생성)
+ *
+ * - 키: (종류, 시드, 개수) → 같은 키를 요청한 테스트 클래스, 컨텍스트(= DB)는 같은 파일을 적재
+ * - 파일은 임시 디렉터리에 두고 JVM 종료 시 삭제
+ * - 생성 중인 키를 다른 스레드가 요청하면 생성이 끝날 때까지 기다림 (같은 파일을 두 번 쓰지 않음)
+ */
+public final class FixtureSnapshots {
+
+    static final String MEMBER_CSV_HEADER = "NAME,EMAIL,EMAIL_DOMAIN,CREATED_AT";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final ConcurrentMap<String, Path> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private static volatile Path directory;
+
+    private FixtureSnapshots() {}
+
+    public static Path members(long seed, int count) {
+        return SNAPSHOTS.computeIfAbsent(
+                "members-" + seed + "-" + count,
+                key -> write(key, MEMBER_CSV_HEADER, new FixtureGenerator(seed).members(count), FixtureSnapshots::csv));
+    }
+
+    static String csv(MemberFixture member) {
+        // 이름, 이메일, 도메인에는 쉼표와 따옴표가 없으므로 따옴표로 감싸지 않음
+        return member.name() + ',' + member.email() + ',' + member.emailDomain() + ','
+                + TIMESTAMP.format(member.createdAt());
+    }
+
+    private static <T> Path write(String key, String header, Stream<T> rows, Function<T, String> line) {
+        Path file = directory().resolve(key + ".csv");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                rows) {
+            writer.write(header);
+            writer.newLine();
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(line.apply(iterator.next()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file;
+    }
+
+    private static Path directory() {
+        if (directory == null) {
+            synchronized (FixtureSnapshots.class) {
+                if (directory == null) {
+                    try {
+                        Path created = Files.createTempDirectory("testinglab-fixtures");
+                        // deleteOnExit는 등록의 역순으로 지움 → 디렉터리를 먼저 등록해야 파일 다음에 지워짐
+                        created.toFile().deleteOnExit();
+                        directory = created;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        }
+        return directory;
+    }
+}
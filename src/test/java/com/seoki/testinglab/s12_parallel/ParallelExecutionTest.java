@@ -0,0 +1,92 @@
+package com.seoki.testinglab.s12_parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/**
+ * JUnit5 병렬 실행 학습 테스트
+ *
+ * 핵심 개념:
+ * - junit.jupiter.execution.parallel.enabled=true 로 활성화 (src/test/resources/junit-platform.properties)
+ * - mode.default: 같은 클래스 안의 메서드 / mode.classes.default: 최상위 클래스끼리
+ * - @Execution으로 클래스/메서드 단위로 모드를 덮어씀
+ *
+ * 실무 포인트:
+ * - 공유 상태(static 필드, DB, 포트, 목 객체)가 없는 테스트만 그대로 병렬화 가능
+ * - 공유 자원이 있으면 @ResourceLock으로 직렬화 (ResourceLockTest)
+ * - 모드 전환: ./gradlew test -PtestExecutionMode=same_thread
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ParallelExecutionTest {
+
+    @Nested
+    class 병렬_실행_설정 {
+
+        @Test
+        void 설정_파일에서_병렬_실행을_켠다() throws IOException {
+            Properties properties = new Properties();
+            try (InputStream in = getClass().getResourceAsStream("/junit-platform.properties")) {
+                properties.load(in);
+            }
+
+            assertThat(properties)
+                    .containsEntry("junit.jupiter.execution.parallel.enabled", "true")
+                    .containsKeys(
+                            "junit.jupiter.execution.parallel.mode.default",
+                            "junit.jupiter.execution.parallel.mode.classes.default");
+        }
+    }
+
+    /**
+     * @Execution(CONCURRENT)
+     * - 하위 테스트가 여러 스레드에서 동시에 실행될 수 있음
+     * - 인스턴스를 공유하면(PER_CLASS) 필드도 스레드 안전해야 함
+     */
+    @Nested
+    @Execution(ExecutionMode.CONCURRENT)
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class CONCURRENT_모드 {
+
+        private final Set<Integer> executed = ConcurrentHashMap.newKeySet();
+
+        @RepeatedTest(10)
+        void 스레드_안전한_컬렉션에_기록한다(RepetitionInfo repetitionInfo) {
+            executed.add(repetitionInfo.getCurrentRepetition());
+        }
+
+        @AfterAll
+        void 모든_반복이_빠짐없이_기록된다() {
+            assertThat(executed).hasSize(10);
+        }
+    }
+
+    /**
+     * @Execution(SAME_THREAD)
+     * - 하위 테스트는 부모와 같은 스레드에서 순서대로 실행
+     * - 스레드 안전하지 않은 상태를 공유해도 안전 (대신 병렬화 이득 없음)
+     */
+    @Nested
+    @Execution(ExecutionMode.SAME_THREAD)
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    class SAME_THREAD_모드 {
+
+        private final List<String> threads = new ArrayList<>();
+
+        @RepeatedTest(5)
+        void 한_스레드에서_순서대로_실행된다() {
+            threads.add(Thread.currentThread().getName());
+
+            assertThat(Set.copyOf(threads)).hasSize(1);
+        }
+    }
+}
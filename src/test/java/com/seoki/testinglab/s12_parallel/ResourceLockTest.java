@@ -0,0 +1,114 @@
+package com.seoki.testinglab.s12_parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+/**
+ * @ResourceLock 학습 테스트
+ *
+ * 핵심 개념:
+ * - 같은 키로 잠근 테스트는 동시에 실행되지 않음 (키는 임의의 문자열)
+ * - READ_WRITE(기본값): 배타적 / READ: READ끼리는 동시 실행 가능, READ_WRITE와는 배타적
+ * - 클래스에 붙이면 하위 테스트 전체가 잠금을 잡고 같은 스레드에서 실행
+ *
+ * 실무 포인트:
+ * - 이 프로젝트의 공유 자원 키는 SharedResources에 모아 둠 (H2, 고정 포트, 목 객체 ...)
+ * - 시스템 프로퍼티, 표준 출력 등은 Resources의 내장 키 사용
+ * - @Isolated: 다른 모든 테스트와 동시에 실행하지 않음 (최후의 수단)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ResourceLockTest {
+
+    static final String COUNTER = "ResourceLockTest.counter";
+
+    static final String SETTINGS = "ResourceLockTest.settings";
+
+    static final AtomicInteger running = new AtomicInteger();
+
+    static volatile String settings = "default";
+
+    @Nested
+    @Execution(ExecutionMode.CONCURRENT)
+    class READ_WRITE_잠금 {
+
+        @Test
+        @ResourceLock(COUNTER)
+        void 같은_키로_잠근_테스트는_하나씩_실행된다_1() throws InterruptedException {
+            assertThat(enterAndCount()).isEqualTo(1);
+        }
+
+        @Test
+        @ResourceLock(COUNTER)
+        void 같은_키로_잠근_테스트는_하나씩_실행된다_2() throws InterruptedException {
+            assertThat(enterAndCount()).isEqualTo(1);
+        }
+
+        @Test
+        @ResourceLock(COUNTER)
+        void 같은_키로_잠근_테스트는_하나씩_실행된다_3() throws InterruptedException {
+            assertThat(enterAndCount()).isEqualTo(1);
+        }
+
+        private int enterAndCount() throws InterruptedException {
+            int concurrent = running.incrementAndGet();
+            try {
+                Thread.sleep(20); // 잠금이 없다면 다른 테스트가 겹칠 시간
+                return concurrent;
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    @Nested
+    @Execution(ExecutionMode.CONCURRENT)
+    class READ_모드 {
+
+        @Test
+        @ResourceLock(value = SETTINGS, mode = ResourceAccessMode.READ)
+        void 읽기만_하는_테스트끼리는_동시에_실행될_수_있다_1() {
+            assertThat(settings).isEqualTo("default");
+        }
+
+        @Test
+        @ResourceLock(value = SETTINGS, mode = ResourceAccessMode.READ)
+        void 읽기만_하는_테스트끼리는_동시에_실행될_수_있다_2() {
+            assertThat(settings).isEqualTo("default");
+        }
+
+        @Test
+        @ResourceLock(SETTINGS)
+        void 쓰는_테스트가_실행되는_동안에는_읽기_테스트가_실행되지_않는다() throws InterruptedException {
+            settings = "changed";
+            try {
+                Thread.sleep(20);
+                assertThat(settings).isEqualTo("changed");
+            } finally {
+                settings = "default";
+            }
+        }
+    }
+
+    @Nested
+    class 내장_자원_키 {
+
+        @Test
+        @ResourceLock(Resources.SYSTEM_PROPERTIES)
+        void 시스템_프로퍼티를_바꾸는_테스트는_SYSTEM_PROPERTIES로_잠근다() {
+            String key = "testinglab.parallel.sample";
+            System.setProperty(key, "value");
+            try {
+                assertThat(System.getProperty(key)).isEqualTo("value");
+            } finally {
+                System.clearProperty(key);
+            }
+        }
+    }
+}
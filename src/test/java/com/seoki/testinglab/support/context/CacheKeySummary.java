@@ -0,0 +1,54 @@
+package com.seoki.testinglab.support.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * MergedContextConfiguration(컨텍스트 캐시 키)의 한 줄 요약
+ *
+ * - 원본 toString은 수백 자라 표에서 읽기 어려움 → 캐시 키를 가르는 항목만 추림
+ * - 설정 클래스, 프로파일, 인라인 프로퍼티, 컨텍스트 커스터마이저(@MockitoBean, 웹 환경 등)
+ */
+final class CacheKeySummary {
+
+    private CacheKeySummary() {}
+
+    static String of(MergedContextConfiguration config) {
+        List<String> parts = new ArrayList<>();
+        parts.add("classes=" + Arrays.stream(config.getClasses())
+                .map(Class::getSimpleName)
+                .toList());
+        if (config.getActiveProfiles().length > 0) {
+            parts.add("profiles=" + Arrays.toString(config.getActiveProfiles()));
+        }
+        List<String> propertySources = config.getPropertySourceDescriptors().stream()
+                .flatMap(descriptor -> descriptor.locations().stream())
+                .toList();
+        if (!propertySources.isEmpty()) {
+            parts.add("propertySources=" + propertySources);
+        }
+        if (config.getPropertySourceProperties().length > 0) {
+            parts.add("properties=" + Arrays.toString(config.getPropertySourceProperties()));
+        }
+        List<String> customizers = config.getContextCustomizers().stream()
+                .filter(customizer -> !(customizer instanceof ContextCacheKeyCustomizerFactory.RecordingCustomizer))
+                .map(CacheKeySummary::nameOf)
+                .sorted()
+                .toList();
+        if (!customizers.isEmpty()) {
+            parts.add("customizers=" + customizers);
+        }
+        if (config.getParent() != null) {
+            parts.add("parent=(" + of(config.getParent()) + ")");
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String nameOf(ContextCustomizer customizer) {
+        String name = customizer.getClass().getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.seoki.testinglab.support.context;
+
+import java.util.List;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * 컨텍스트가 새로 로드될 때 캐시 키(MergedContextConfiguration)를 기록하는 커스터마이저
+ *
+ * - ContextCustomizer는 캐시 키의 일부 → 모든 인스턴스가 equals/hashCode가 같아야
+ *   기존 캐시 키의 동일성(= 컨텍스트 공유 여부)을 바꾸지 않음
+ * - customizeContext는 캐시 미스로 새 컨텍스트를 만들 때만 호출됨
+ * - 컨텍스트가 닫히면(@DirtiesContext, 캐시 LRU 제거) 닫힘으로 기록
+ *
+ * 등록: META-INF/spring.factories
+ */
+public class ContextCacheKeyCustomizerFactory implements ContextCustomizerFactory {
+
+    private static final RecordingCustomizer CUSTOMIZER = new RecordingCustomizer();
+
+    @Override
+    public ContextCustomizer createContextCustomizer(
+            Class<?> testClass, List<ContextConfigurationAttributes> configAttributes) {
+        return CUSTOMIZER;
+    }
+
+    static final class RecordingCustomizer implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            ContextCacheRecorder.get().loaded(context, mergedConfig);
+            context.addApplicationListener(event -> {
+                if (event instanceof ContextClosedEvent closed && closed.getApplicationContext() == context) {
+                    ContextCacheRecorder.get().closed(context);
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RecordingCustomizer;
+        }
+
+        @Override
+        public int hashCode() {
+            return RecordingCustomizer.class.hashCode();
+        }
+    }
+}
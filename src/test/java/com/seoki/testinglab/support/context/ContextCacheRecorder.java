@@ -0,0 +1,83 @@
+package com.seoki.testinglab.support.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * 테스트 실행 중 로드/재사용된 ApplicationContext 기록 (JVM당 하나)
+ *
+ * - 컨텍스트 → 번호/캐시 키는 WeakHashMap으로 보관 → 캐시에서 밀려난 컨텍스트를 붙잡지 않음
+ * - 테스트 클래스별 사용 기록은 보고서를 쓸 때까지 유지
+ * - 병렬 실행에서도 안전하도록 모든 상태는 동기화 컬렉션
+ */
+final class ContextCacheRecorder {
+
+    private static final ContextCacheRecorder INSTANCE = new ContextCacheRecorder();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Map<ApplicationContext, LoadedContext> contexts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Integer, LoadedContext> contextsById = new ConcurrentHashMap<>();
+
+    private final Set<Integer> closedIds = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentLinkedQueue<ContextUsage> usages = new ConcurrentLinkedQueue<>();
+
+    static ContextCacheRecorder get() {
+        return INSTANCE;
+    }
+
+    /**
+     * 새로 로드된 컨텍스트 등록 (캐시 미스 때만 호출됨)
+     */
+    void loaded(ApplicationContext context, MergedContextConfiguration mergedConfig) {
+        LoadedContext loaded = new LoadedContext(
+                sequence.incrementAndGet(), mergedConfig.toString(), CacheKeySummary.of(mergedConfig));
+        contexts.put(context, loaded);
+        contextsById.put(loaded.id(), loaded);
+    }
+
+    void closed(ApplicationContext context) {
+        LoadedContext loaded = contexts.get(context);
+        if (loaded != null) {
+            closedIds.add(loaded.id());
+        }
+    }
+
+    void used(Class<?> testClass, ApplicationContext context, boolean cacheHit, long loadNanos) {
+        LoadedContext loaded = contexts.computeIfAbsent(context, unknown -> {
+            // 커스터마이저를 거치지 않은 컨텍스트 (직접 만든 부트스트래퍼 등)
+            LoadedContext created = new LoadedContext(sequence.incrementAndGet(), "unknown", "unknown");
+            contextsById.put(created.id(), created);
+            return created;
+        });
+        usages.add(new ContextUsage(
+                testClass.getName(), loaded.id(), cacheHit, loadNanos, context.getBeanDefinitionCount()));
+    }
+
+    List<ContextUsage> usages() {
+        return new ArrayList<>(usages);
+    }
+
+    Map<Integer, LoadedContext> contextsById() {
+        return Map.copyOf(contextsById);
+    }
+
+    Set<Integer> closedIds() {
+        return Set.copyOf(closedIds);
+    }
+
+    record LoadedContext(int id, String cacheKey, String summary) {}
+
+    record ContextUsage(String testClass, int contextId, boolean cacheHit, long loadNanos, int beanCount) {}
+}
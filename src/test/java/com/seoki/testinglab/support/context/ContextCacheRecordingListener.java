@@ -0,0 +1,35 @@
+package com.seoki.testinglab.support.context;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.test.context.support.DirtiesContextBeforeModesTestExecutionListener;
+
+/**
+ * 테스트 클래스마다 ApplicationContext 캐시 적중 여부, 로드 시간, 빈 개수를 기록
+ *
+ * - beforeTestClass에서 컨텍스트를 가져오며 시간을 잼
+ *   hasApplicationContext()가 true면 캐시 적중 (가져오는 비용 ≈ 0)
+ * - @DirtiesContext(BEFORE_CLASS)가 먼저 처리되도록 DirtiesContextBeforeModes 리스너 다음 순서
+ *
+ * 등록: META-INF/spring.factories (기본 리스너와 함께 자동 적용)
+ */
+public class ContextCacheRecordingListener extends AbstractTestExecutionListener {
+
+    static final int ORDER = DirtiesContextBeforeModesTestExecutionListener.ORDER + 100;
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public void beforeTestClass(TestContext testContext) {
+        boolean cacheHit = testContext.hasApplicationContext();
+        long start = System.nanoTime();
+        ApplicationContext context = testContext.getApplicationContext();
+        long loadNanos = cacheHit ? 0 : System.nanoTime() - start;
+
+        ContextCacheRecorder.get().used(testContext.getTestClass(), context, cacheHit, loadNanos);
+    }
+}
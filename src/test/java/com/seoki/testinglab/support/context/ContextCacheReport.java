@@ -0,0 +1,62 @@
+package com.seoki.testinglab.support.context;
+
+import com.seoki.testinglab.support.context.ContextCacheRecorder.ContextUsage;
+import com.seoki.testinglab.support.context.ContextCacheRecorder.LoadedContext;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 컨텍스트 캐시 보고서 모델
+ *
+ * - contexts: 로드 시간이 긴 순서 → 맨 위가 빌드 시간을 가장 많이 잡아먹는 컨텍스트
+ * - hits가 0인 컨텍스트 = 한 클래스만 쓰고 버려진 컨텍스트 → 설정 통합 후보
+ */
+record ContextCacheReport(
+        int contextsLoaded, int cacheHits, int cacheMisses, long totalLoadMillis, List<ContextEntry> contexts) {
+
+    record ContextEntry(
+            int id,
+            String summary,
+            String cacheKey,
+            long loadMillis,
+            int beanCount,
+            int hits,
+            boolean closedBeforeEnd,
+            List<String> testClasses) {}
+
+    static ContextCacheReport of(List<ContextUsage> usages, Map<Integer, LoadedContext> contexts, Set<Integer> closed) {
+        Map<Integer, List<ContextUsage>> byContext = usages.stream()
+                .collect(Collectors.groupingBy(ContextUsage::contextId, LinkedHashMap::new, Collectors.toList()));
+
+        List<ContextEntry> entries = byContext.entrySet().stream()
+                .map(entry -> entryOf(contexts.get(entry.getKey()), entry.getValue(), closed.contains(entry.getKey())))
+                .sorted(Comparator.comparingLong(ContextEntry::loadMillis).reversed())
+                .toList();
+
+        int hits = (int) usages.stream().filter(ContextUsage::cacheHit).count();
+        return new ContextCacheReport(
+                entries.size(),
+                hits,
+                usages.size() - hits,
+                entries.stream().mapToLong(ContextEntry::loadMillis).sum(),
+                entries);
+    }
+
+    private static ContextEntry entryOf(LoadedContext context, List<ContextUsage> usages, boolean closed) {
+        long loadNanos = usages.stream().mapToLong(ContextUsage::loadNanos).sum();
+        return new ContextEntry(
+                context.id(),
+                context.summary(),
+                context.cacheKey(),
+                Duration.ofNanos(loadNanos).toMillis(),
+                usages.get(0).beanCount(),
+                (int) usages.stream().filter(ContextUsage::cacheHit).count(),
+                closed,
+                usages.stream().map(ContextUsage::testClass).distinct().toList());
+    }
+}
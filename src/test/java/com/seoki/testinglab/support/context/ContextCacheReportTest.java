@@ -0,0 +1,59 @@
+package com.seoki.testinglab.support.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.context.ContextCacheRecorder.ContextUsage;
+import com.seoki.testinglab.support.context.ContextCacheRecorder.LoadedContext;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ContextCacheReportTest {
+
+    static final Map<Integer, LoadedContext> CONTEXTS = Map.of(
+            1, new LoadedContext(1, "key-1", "classes=[TestingLabApplication]"),
+            2, new LoadedContext(2, "key-2", "classes=[OrderController]"));
+
+    static final List<ContextUsage> USAGES = List.of(
+            new ContextUsage("SpringBootTestTest$A", 1, false, millis(3000), 250),
+            new ContextUsage("SpringBootTestTest$B", 1, true, 0, 250),
+            new ContextUsage("WebMvcTestTest$C", 2, false, millis(400), 80),
+            new ContextUsage("WebMvcTestTest$D", 1, true, 0, 250));
+
+    @Test
+    void 컨텍스트별로_로드_시간_적중_횟수_사용_클래스를_집계한다() {
+        ContextCacheReport report = ContextCacheReport.of(USAGES, CONTEXTS, Set.of(2));
+
+        assertThat(report.contextsLoaded()).isEqualTo(2);
+        assertThat(report.cacheHits()).isEqualTo(2);
+        assertThat(report.cacheMisses()).isEqualTo(2);
+        assertThat(report.totalLoadMillis()).isEqualTo(3400);
+
+        // 로드 시간이 긴 컨텍스트가 먼저
+        assertThat(report.contexts()).extracting(ContextCacheReport.ContextEntry::id).containsExactly(1, 2);
+        ContextCacheReport.ContextEntry heaviest = report.contexts().get(0);
+        assertThat(heaviest.hits()).isEqualTo(2);
+        assertThat(heaviest.beanCount()).isEqualTo(250);
+        assertThat(heaviest.testClasses())
+                .containsExactly("SpringBootTestTest$A", "SpringBootTestTest$B", "WebMvcTestTest$D");
+        assertThat(report.contexts().get(1).closedBeforeEnd()).isTrue();
+    }
+
+    @Test
+    void HTML_보고서는_캐시_키를_이스케이프한다() {
+        Map<Integer, LoadedContext> contexts =
+                Map.of(1, new LoadedContext(1, "<script>key</script>", "properties=[a=<b>]"));
+        List<ContextUsage> usages = List.of(new ContextUsage("Test", 1, false, millis(10), 1));
+
+        String html = ContextCacheReportWriter.toHtml(ContextCacheReport.of(usages, contexts, Set.of()));
+
+        assertThat(html).contains("&lt;script&gt;").contains("a=&lt;b&gt;").doesNotContain("<script>");
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+}
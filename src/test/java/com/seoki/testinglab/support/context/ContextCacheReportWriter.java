@@ -0,0 +1,94 @@
+package com.seoki.testinglab.support.context;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.seoki.testinglab.support.context.ContextCacheReport.ContextEntry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 테스트 실행이 끝나면 컨텍스트 캐시 보고서를 JSON/HTML로 저장
+ *
+ * - 위치: build/reports/spring-context/ (시스템 프로퍼티 testinglab.context-report.dir로 변경)
+ * - Spring 컨텍스트를 하나도 쓰지 않은 실행이면 파일을 만들지 않음
+ *
+ * 등록: META-INF/services/org.junit.platform.launcher.TestExecutionListener
+ */
+public class ContextCacheReportWriter implements TestExecutionListener {
+
+    static final String REPORT_DIR_PROPERTY = "testinglab.context-report.dir";
+
+    static final String DEFAULT_REPORT_DIR = "build/reports/spring-context";
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        ContextCacheRecorder recorder = ContextCacheRecorder.get();
+        ContextCacheReport report =
+                ContextCacheReport.of(recorder.usages(), recorder.contextsById(), recorder.closedIds());
+        if (report.contexts().isEmpty()) {
+            return;
+        }
+
+        Path dir = Path.of(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+        try {
+            Files.createDirectories(dir);
+            new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve("contexts.json").toFile(), report);
+            Files.writeString(dir.resolve("contexts.html"), toHtml(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.printf(
+                "[context-cache] 로드 %d개 (%,dms), 적중 %d / 미스 %d → %s%n",
+                report.contextsLoaded(),
+                report.totalLoadMillis(),
+                report.cacheHits(),
+                report.cacheMisses(),
+                dir.toAbsolutePath());
+    }
+
+    static String toHtml(ContextCacheReport report) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>Spring Context Cache</title>")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;vertical-align:top}")
+                .append(".key{font-family:monospace;font-size:12px}.closed{color:#b00}</style></head><body>\n")
+                .append("<h1>Spring Context Cache</h1>\n")
+                .append("<p>contexts loaded: ")
+                .append(report.contextsLoaded())
+                .append(" / total load time: ")
+                .append(report.totalLoadMillis())
+                .append("ms / cache hits: ")
+                .append(report.cacheHits())
+                .append(" / misses: ")
+                .append(report.cacheMisses())
+                .append("</p>\n<table>\n")
+                .append("<tr><th>#</th><th>load (ms)</th><th>beans</th><th>hits</th><th>test classes</th>")
+                .append("<th>cache key</th></tr>\n");
+        for (ContextEntry entry : report.contexts()) {
+            html.append("<tr><td>")
+                    .append(entry.id())
+                    .append(entry.closedBeforeEnd() ? " <span class=\"closed\">(closed)</span>" : "")
+                    .append("</td><td>")
+                    .append(entry.loadMillis())
+                    .append("</td><td>")
+                    .append(entry.beanCount())
+                    .append("</td><td>")
+                    .append(entry.hits())
+                    .append("</td><td>")
+                    .append(HtmlUtils.htmlEscape(String.join("\n", entry.testClasses())).replace("\n", "<br>"))
+                    .append("</td><td class=\"key\" title=\"")
+                    .append(HtmlUtils.htmlEscape(entry.cacheKey()))
+                    .append("\">")
+                    .append(HtmlUtils.htmlEscape(entry.summary()))
+                    .append("</td></tr>\n");
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+}
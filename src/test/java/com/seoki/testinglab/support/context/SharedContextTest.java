@@ -0,0 +1,58 @@
+package com.seoki.testinglab.support.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * 같은 메타 어노테이션을 쓴 테스트 클래스는 컨텍스트 하나를 공유한다
+ *
+ * - 실행 순서와 무관하게 검증하도록 각 클래스가 받은 컨텍스트를 모아 개수를 확인
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SharedContextTest {
+
+    static final Set<ApplicationContext> CONTEXTS = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    @Nested
+    @SharedSpringBootTest
+    class 첫_번째_테스트_클래스 {
+
+        @Autowired
+        ApplicationContext applicationContext;
+
+        @Test
+        void 공유_컨텍스트를_받는다() {
+            CONTEXTS.add(applicationContext);
+
+            assertThat(CONTEXTS).hasSize(1);
+        }
+    }
+
+    @Nested
+    @SharedSpringBootTest
+    class 두_번째_테스트_클래스 {
+
+        @Autowired
+        ApplicationContext applicationContext;
+
+        @Test
+        void 공유_컨텍스트를_받는다() {
+            CONTEXTS.add(applicationContext);
+
+            assertThat(CONTEXTS).hasSize(1);
+        }
+
+        @Test
+        void 공유_프로퍼티가_적용된다() {
+            assertThat(applicationContext.getEnvironment().getProperty("custom.feature.enabled"))
+                    .isEqualTo("true");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.seoki.testinglab.support.context;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+/**
+ * 전체 애플리케이션 컨텍스트를 공유하는 통합 테스트 (웹 서버 없음)
+ *
+ * - 컨텍스트 캐시 키 = webEnvironment + properties + classes + ... → 하나라도 다르면 새 컨텍스트
+ * - 테스트마다 @SpringBootTest 속성을 조금씩 다르게 적는 대신 이 어노테이션 하나로 통일
+ * - 테스트 전용 프로퍼티는 아래 목록에 추가 (개별 테스트에 추가하면 그 테스트만 별도 컨텍스트)
+ *   예: custom.feature.enabled → SpringBootTestTest.properties_속성_활용이 이 컨텍스트에서 확인
+ * - spring.datasource.url은 지정하지 않음 → 컨텍스트마다 Boot가 고유한 이름의 내장 DB를 만듦
+ *   (고정 이름이면 동시에 떠 있는 컨텍스트들이 DB 하나를 나눠 쓰고, 먼저 닫힌 쪽의 create-drop이 스키마를 지움)
+ *
+ * 실제 HTTP 요청이 필요하면 {@link SharedWebServerTest}
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@SpringBootTest(
+        webEnvironment = WebEnvironment.MOCK,
+        properties = "custom.feature.enabled=true")
+public @interface SharedSpringBootTest {}
@@ -0,0 +1,26 @@
+package com.seoki.testinglab.support.context;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 실제 서블릿 컨테이너(랜덤 포트)를 띄우는 컨텍스트를 공유하는 통합 테스트
+ *
+ * - 테스트 전용 프로퍼티 없음 (MOCK 컨텍스트의 예제 프로퍼티는 웹 서버 테스트에서 쓰지 않음)
+ * - /actuator/metrics를 HTTP로 확인하는 컨텍스트 → metrics 프로파일(Hibernate 통계)을 켬
+ * - 고정 포트(DEFINED_PORT)는 포트마다 컨텍스트가 따로 생기고 병렬 실행도 막히므로 공유 대상에서 제외
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("metrics")
+public @interface SharedWebServerTest {}
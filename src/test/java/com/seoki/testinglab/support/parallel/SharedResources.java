@@ -0,0 +1,37 @@
+package com.seoki.testinglab.support.parallel;
+
+/**
+ * 병렬 실행 시 @ResourceLock으로 보호하는 공유 자원 키
+ *
+ * - 같은 키를 가진 테스트는 동시에 실행되지 않음 (READ_WRITE 기본값)
+ * - 클래스에 붙이면 하위 @Nested/메서드는 모두 같은 스레드에서 순서대로 실행
+ * - 문자열 오타 = 다른 자원 → 키는 여기서만 정의
+ */
+public final class SharedResources {
+
+    /**
+     * JPA 테스트가 쓰는 H2 인메모리 DB
+     * - 같은 설정의 @DataJpaTest 클래스는 컨텍스트(= DB)를 공유
+     * - NOT_SUPPORTED 테스트는 실제로 커밋 → 다른 테스트의 조회 결과/카운터에 영향
+     */
+    public static final String H2_DATASOURCE = "h2-datasource";
+
+    /**
+     * @WebMvcTest(OrderController.class) 계열 컨텍스트의 @MockitoBean과 컨트롤러 상태
+     * - 같은 설정의 테스트 클래스는 목 객체를 공유 → 동시에 스터빙하면 서로 덮어씀
+     * - 응답 캐시, 부정 캐시, single-flight 카운터도 컨텍스트 단위로 공유
+     */
+    public static final String ORDER_API_MOCKS = "order-api-mocks";
+
+    /**
+     * WebEnvironment.DEFINED_PORT로 고정한 서버 포트
+     */
+    public static final String DEFINED_SERVER_PORT = "server-port-9999";
+
+    /**
+     * LifeCycleTest의 static 실행 순서 기록
+     */
+    public static final String LIFE_CYCLE_LOG = "life-cycle-log";
+
+    private SharedResources() {}
+}
@@ -0,0 +1,93 @@
+package com.seoki.testinglab.support.params;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * {@link MappedCsvFileSource}의 ArgumentsProvider
+ *
+ * - 파일마다 행 Stream을 만들어 이어 붙임 → 앞 파일을 다 읽은 뒤에 다음 파일을 엶
+ * - JUnit이 Stream을 닫으면 파일 채널도 닫힘
+ */
+class MappedCsvFileArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<MappedCsvFileSource> {
+
+    private MappedCsvFileSource source;
+
+    @Override
+    public void accept(MappedCsvFileSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        List<Path> paths = new ArrayList<>();
+        for (String resource : source.resources()) {
+            paths.add(resolve(context.getRequiredTestClass(), resource));
+        }
+        for (String file : source.files()) {
+            paths.add(Path.of(file));
+        }
+        if (paths.isEmpty()) {
+            throw new PreconditionViolationException("Resources or files must not be empty");
+        }
+        Set<String> nullValues = Set.of(source.nullValues());
+        return paths.stream()
+                .flatMap(path -> rows(path, nullValues))
+                .map(row -> Arguments.of((Object[]) row));
+    }
+
+    private Stream<String[]> rows(Path path, Set<String> nullValues) {
+        MappedCsvReader reader;
+        try {
+            reader = new MappedCsvReader(path, source.delimiter(), source.numLinesToSkip(), nullValues);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + path, e);
+        }
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(reader::close);
+    }
+
+    /**
+     * 디렉터리에 있는 리소스는 그대로 매핑, jar 안의 리소스는 임시 파일로 복사한 뒤 매핑
+     */
+    private static Path resolve(Class<?> testClass, String resource) {
+        URL url = testClass.getResource(resource);
+        if (url == null) {
+            throw new PreconditionViolationException("Classpath resource [" + resource + "] does not exist");
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return Path.of(url.toURI());
+            }
+            Path copy = Files.createTempFile("testinglab-csv", ".csv");
+            copy.toFile().deleteOnExit();
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + url, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid resource URL: " + url, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.seoki.testinglab.support.params;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * 메모리 맵으로 읽는 @CsvFileSource 대체 (수백만 행 CSV용)
+ *
+ * - 둘 다 인자 목록을 미리 만들지 않고 테스트가 인자를 요청할 때마다 한 행씩 파싱 (JUnit 5.12 기준)
+ * - @CsvFileSource: InputStreamReader로 디코딩한 문자를 univocity 입력 버퍼(100만 문자)에 복사해 파싱,
+ *   필드는 maxCharsPerColumn(기본 4096) 크기의 char 버퍼에 모으고 이보다 긴 값은 파싱 실패
+ * - 여기서는 메모리 맵의 바이트에서 바로 파싱 → 읽기 버퍼 복사가 없고 필드 길이 제한도 없음
+ *   (필드 버퍼는 긴 값을 만날 때만 늘림, 페이지 캐시는 OS가 관리)
+ *
+ * @CsvFileSource와 같은 기본 동작:
+ * - 큰따옴표 인용("a,b"), 인용 안의 "" = ", 인용 안의 줄바꿈
+ * - 인용하지 않은 값은 앞뒤 공백 제거, 빈 값은 null (인용한 빈 값 ""는 빈 문자열)
+ * - 빈 줄, '#'으로 시작하는 줄은 건너뜀
+ *
+ * 다른 점: 인코딩은 UTF-8만, 구분자는 ASCII 문자만
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(MappedCsvFileArgumentsProvider.class)
+public @interface MappedCsvFileSource {
+
+    /**
+     * 클래스패스 리소스 (예: "/golden/orders.csv")
+     */
+    String[] resources() default {};
+
+    /**
+     * 파일 시스템 경로
+     */
+    String[] files() default {};
+
+    /**
+     * 파일마다 앞에서 건너뛸 줄 수 (헤더)
+     */
+    int numLinesToSkip() default 0;
+
+    char delimiter() default ',';
+
+    /**
+     * null로 바꿀 값 (예: "N/A")
+     */
+    String[] nullValues() default {};
+}
@@ -0,0 +1,95 @@
+package com.seoki.testinglab.support.params;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.provider.CsvParsingException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class MappedCsvFileSourceTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    class 파싱 {
+
+        @Test
+        void CsvFileSource와_같은_규칙으로_행을_나눈다() throws IOException {
+            Path csv = write("name,age\n# 주석\n\n 철수 , 20\r\n\"a,\"\"b\"\"\",\"\"\n,N/A\n\"여러\n줄\",3");
+
+            assertThat(read(csv, 1, Set.of("N/A")))
+                    .containsExactly(
+                            new String[] {"철수", "20"},
+                            new String[] {"a,\"b\"", ""},
+                            new String[] {null, null},
+                            new String[] {"여러\n줄", "3"});
+        }
+
+        @Test
+        void UTF_8_BOM은_건너뛴다() throws IOException {
+            Path csv = dir.resolve("bom.csv");
+            Files.write(csv, new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a', ',', 'b'});
+
+            assertThat(read(csv, 0, Set.of())).containsExactly(new String[] {"a", "b"});
+        }
+
+        @Test
+        void maxCharsPerColumn보다_긴_필드도_읽는다() throws IOException {
+            // @CsvFileSource는 기본 maxCharsPerColumn(4096)을 넘는 필드에서 실패
+            String longValue = "가".repeat(10_000);
+            Path csv = write(longValue + ",1");
+
+            assertThat(read(csv, 0, Set.of())).containsExactly(new String[] {longValue, "1"});
+        }
+
+        @Test
+        void 닫히지_않은_따옴표는_실패한다() throws IOException {
+            Path csv = write("\"열린 채로");
+
+            assertThatThrownBy(() -> read(csv, 0, Set.of())).isInstanceOf(CsvParsingException.class);
+        }
+    }
+
+    @Nested
+    class 창_이동 {
+
+        @Test
+        void 행과_멀티바이트_문자가_창_경계에_걸려도_그대로_읽는다() throws IOException {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 10_000; i++) {
+                content.append("회원").append(i).append(',').append(i).append('\n');
+            }
+            Path csv = write(content.toString());
+
+            List<String[]> rows = new ArrayList<>();
+            // 창 크기를 7바이트로 줄여 거의 모든 행이 경계에 걸리게 함
+            try (MappedCsvReader reader = new MappedCsvReader(csv, ',', 0, Set.of(), 7)) {
+                reader.forEachRemaining(rows::add);
+            }
+
+            assertThat(rows).hasSize(10_000);
+            assertThat(rows).allSatisfy(row -> assertThat(row[0]).isEqualTo("회원" + row[1]));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(dir, "test", ".csv"), content);
+    }
+
+    private static List<String[]> read(Path csv, int numLinesToSkip, Set<String> nullValues) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (MappedCsvReader reader = new MappedCsvReader(csv, ',', numLinesToSkip, nullValues)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
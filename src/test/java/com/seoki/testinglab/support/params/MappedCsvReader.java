@@ -0,0 +1,232 @@
+package com.seoki.testinglab.support.params;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.jupiter.params.provider.CsvParsingException;
+
+/**
+ * 메모리 맵 CSV 행 단위 파서
+ *
+ * - 파일을 WINDOW_SIZE 단위로 앞에서부터 매핑 (MappedByteBuffer 하나는 2GB까지 → 큰 파일은 창을 옮겨 가며 읽음)
+ * - 바이트를 재사용 버퍼에 모았다가 필드마다 String 하나만 만듦 → 행당 할당은 필드 String + 배열 하나
+ * - UTF-8의 멀티바이트 문자는 0x80 이상이라 구분자, 따옴표, 줄바꿈(ASCII)과 겹치지 않음 → 바이트 단위로 찾아도 안전
+ */
+final class MappedCsvReader implements Iterator<String[]>, AutoCloseable {
+
+    static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private static final int END_OF_FILE = -1;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final long windowSize;
+
+    private final int delimiter;
+
+    private final Set<String> nullValues;
+
+    private MappedByteBuffer window;
+
+    private long windowStart;
+
+    private long position;
+
+    private byte[] buffer = new byte[256];
+
+    private int length;
+
+    private final List<String> fields = new ArrayList<>();
+
+    private String[] next;
+
+    MappedCsvReader(Path file, char delimiter, int numLinesToSkip, Set<String> nullValues) throws IOException {
+        this(file, delimiter, numLinesToSkip, nullValues, WINDOW_SIZE);
+    }
+
+    MappedCsvReader(Path file, char delimiter, int numLinesToSkip, Set<String> nullValues, long windowSize)
+            throws IOException {
+        if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("delimiter must be an ASCII character other than quote/newline");
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.delimiter = delimiter;
+        this.nullValues = nullValues;
+        skipByteOrderMark();
+        for (int i = 0; i < numLinesToSkip; i++) {
+            skipLine();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String[] row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        window = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String[] readRow() throws IOException {
+        // 빈 줄, 주석 줄 건너뜀
+        while (true) {
+            int b = byteAt(position);
+            if (b == END_OF_FILE) {
+                close();
+                return null;
+            }
+            if (b == '\n' || b == '\r') {
+                position++;
+            } else if (b == '#') {
+                skipLine();
+            } else {
+                break;
+            }
+        }
+        fields.clear();
+        while (readField()) {
+            // 구분자를 만나면 다음 필드
+        }
+        return fields.toArray(String[]::new);
+    }
+
+    /**
+     * @return 같은 행에 필드가 더 있으면 true
+     */
+    private boolean readField() throws IOException {
+        length = 0;
+        skipWhitespace();
+        int b = byteAt(position);
+        boolean quoted = b == '"';
+        if (quoted) {
+            long start = position++;
+            while (true) {
+                b = byteAt(position++);
+                if (b == END_OF_FILE) {
+                    throw new CsvParsingException("Unterminated quoted field starting at byte " + start);
+                }
+                if (b == '"') {
+                    if (byteAt(position) != '"') {
+                        break;
+                    }
+                    position++; // "" → "
+                }
+                append(b);
+            }
+            skipWhitespace();
+            b = byteAt(position);
+        } else {
+            int trimmedLength = 0;
+            while (b != END_OF_FILE && b != delimiter && b != '\n' && b != '\r') {
+                append(b);
+                if (b != ' ' && b != '\t') {
+                    trimmedLength = length;
+                }
+                b = byteAt(++position);
+            }
+            length = trimmedLength;
+        }
+
+        String value = !quoted && length == 0 ? null : new String(buffer, 0, length, StandardCharsets.UTF_8);
+        fields.add(value != null && nullValues.contains(value) ? null : value);
+
+        if (b == delimiter) {
+            position++;
+            return true;
+        }
+        if (b == '\r') {
+            position++;
+            if (byteAt(position) == '\n') {
+                position++;
+            }
+            return false;
+        }
+        if (b == '\n') {
+            position++;
+            return false;
+        }
+        if (b == END_OF_FILE) {
+            return false;
+        }
+        throw new CsvParsingException("Unexpected character after quoted field at byte " + position);
+    }
+
+    private void skipWhitespace() throws IOException {
+        int b = byteAt(position);
+        while (b == ' ' || b == '\t') {
+            b = byteAt(++position);
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int b = byteAt(position);
+        while (b != END_OF_FILE && b != '\n') {
+            b = byteAt(++position);
+        }
+        if (b == '\n') {
+            position++;
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (byteAt(0) == 0xEF && byteAt(1) == 0xBB && byteAt(2) == 0xBF) {
+            position = 3;
+        }
+    }
+
+    private void append(int b) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[length++] = (byte) b;
+    }
+
+    private int byteAt(long offset) throws IOException {
+        if (offset >= size) {
+            return END_OF_FILE;
+        }
+        if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+            // 앞으로만 읽으므로 창은 현재 위치부터 다시 매핑
+            windowStart = offset;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset));
+        }
+        return window.get((int) (offset - windowStart)) & 0xFF;
+    }
+}
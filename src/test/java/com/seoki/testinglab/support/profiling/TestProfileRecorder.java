@@ -0,0 +1,61 @@
+package com.seoki.testinglab.support.profiling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트/클래스별 측정 결과 기록 (JVM당 하나)
+ *
+ * - 병렬 실행에서도 안전하도록 동시성 큐에 쌓고, 보고서를 쓸 때 한 번에 꺼냄
+ */
+final class TestProfileRecorder {
+
+    private static final TestProfileRecorder INSTANCE = new TestProfileRecorder();
+
+    private final ConcurrentLinkedQueue<TestProfile> profiles = new ConcurrentLinkedQueue<>();
+
+    static TestProfileRecorder get() {
+        return INSTANCE;
+    }
+
+    void record(String uniqueId, String testClass, String test, Kind kind, boolean failed, ThreadUsage used) {
+        profiles.add(new TestProfile(
+                kind,
+                testClass,
+                test,
+                failed,
+                micros(used.wallNanos()),
+                used.cpuNanos() == ThreadUsage.UNSUPPORTED ? ThreadUsage.UNSUPPORTED : micros(used.cpuNanos()),
+                used.allocatedBytes(),
+                uniqueId));
+    }
+
+    List<TestProfile> profiles() {
+        return new ArrayList<>(profiles);
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * TEST: 테스트 메서드 본문 (@BeforeEach/@AfterEach 제외)
+     * CLASS: @BeforeAll ~ @AfterAll 전체 (인자 공급자, Spring 컨텍스트 로드 포함)
+     */
+    enum Kind {
+        CLASS,
+        TEST
+    }
+
+    record TestProfile(
+            Kind kind,
+            String testClass,
+            String test,
+            boolean failed,
+            long wallMicros,
+            long cpuMicros,
+            long allocatedBytes,
+            String uniqueId) {}
+}
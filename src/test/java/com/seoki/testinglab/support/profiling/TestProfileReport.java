@@ -0,0 +1,51 @@
+package com.seoki.testinglab.support.profiling;
+
+import com.seoki.testinglab.support.profiling.TestProfileRecorder.Kind;
+import com.seoki.testinglab.support.profiling.TestProfileRecorder.TestProfile;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * 테스트 프로파일 보고서 모델
+ *
+ * - profiles: uniqueId 순 → 커밋 간 diff가 실행 순서(병렬 실행)에 흔들리지 않음
+ * - slowest, mostAllocating: 테스트 행 중 상위 TOP건
+ * - 합계는 테스트 행만 (클래스 행은 하위 테스트를 포함하므로 더하면 중복)
+ */
+record TestProfileReport(
+        int tests,
+        long totalWallMillis,
+        long totalCpuMillis,
+        long totalAllocatedBytes,
+        List<TestProfile> slowest,
+        List<TestProfile> mostAllocating,
+        List<TestProfile> profiles) {
+
+    static final int TOP = 10;
+
+    static TestProfileReport of(List<TestProfile> profiles) {
+        List<TestProfile> tests = profiles.stream().filter(profile -> profile.kind() == Kind.TEST).toList();
+        return new TestProfileReport(
+                tests.size(),
+                TimeUnit.MICROSECONDS.toMillis(sum(tests, TestProfile::wallMicros)),
+                TimeUnit.MICROSECONDS.toMillis(sum(tests, TestProfile::cpuMicros)),
+                sum(tests, TestProfile::allocatedBytes),
+                top(tests, TestProfile::wallMicros),
+                top(tests, TestProfile::allocatedBytes),
+                profiles.stream().sorted(Comparator.comparing(TestProfile::uniqueId)).toList());
+    }
+
+    private static long sum(List<TestProfile> tests, ToLongFunction<TestProfile> metric) {
+        // 측정하지 못한 값(-1)은 제외
+        return tests.stream().mapToLong(metric).filter(value -> value > 0).sum();
+    }
+
+    private static List<TestProfile> top(List<TestProfile> tests, ToLongFunction<TestProfile> metric) {
+        return tests.stream()
+                .sorted(Comparator.comparingLong(metric).reversed())
+                .limit(TOP)
+                .toList();
+    }
+}
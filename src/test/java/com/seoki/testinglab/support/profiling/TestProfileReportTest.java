@@ -0,0 +1,81 @@
+package com.seoki.testinglab.support.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seoki.testinglab.support.profiling.TestProfileRecorder.Kind;
+import com.seoki.testinglab.support.profiling.TestProfileRecorder.TestProfile;
+import java.util.List;
+import org.junit.jupiter.api.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TestProfileReportTest {
+
+    @Nested
+    class 스레드_사용량 {
+
+        byte[] sink;
+
+        @Test
+        void 두_스냅샷_사이에_할당한_바이트를_잰다() {
+            ThreadUsage start = ThreadUsage.now();
+            sink = new byte[10 * 1024 * 1024];
+            ThreadUsage used = ThreadUsage.now().since(start);
+
+            assertThat(used.wallNanos()).isPositive();
+            if (used.allocatedBytes() != ThreadUsage.UNSUPPORTED) {
+                assertThat(used.allocatedBytes()).isGreaterThanOrEqualTo(sink.length);
+            }
+        }
+
+        @Test
+        void 한쪽이라도_측정하지_못했으면_차이도_측정하지_못한_값이다() {
+            ThreadUsage start = new ThreadUsage(1, 0, ThreadUsage.UNSUPPORTED, 100);
+            ThreadUsage end = new ThreadUsage(1, 50, 30, 300);
+
+            assertThat(end.since(start)).isEqualTo(new ThreadUsage(1, 50, ThreadUsage.UNSUPPORTED, 200));
+        }
+
+        @Test
+        void 시작과_끝의_스레드가_다르면_CPU와_할당은_측정하지_못한_값이다() {
+            ThreadUsage start = new ThreadUsage(1, 0, 500, 1_000);
+            ThreadUsage end = new ThreadUsage(2, 50, 30, 300);
+
+            assertThat(end.since(start))
+                    .isEqualTo(new ThreadUsage(2, 50, ThreadUsage.UNSUPPORTED, ThreadUsage.UNSUPPORTED));
+        }
+    }
+
+    @Nested
+    class 보고서 {
+
+        static final List<TestProfile> PROFILES = List.of(
+                new TestProfile(Kind.TEST, "B", "느린 테스트", false, 5_000_000, 4_000_000, 1_000, "[c:B]/[m:slow]"),
+                new TestProfile(Kind.TEST, "A", "[1] a, \"b\"", false, 1_000, 900, 50_000_000, "[c:A]/[t:p]/[i:1]"),
+                new TestProfile(Kind.CLASS, "A", "", false, 9_000_000, -1, -1, "[c:A]"),
+                new TestProfile(Kind.TEST, "A", "실패", true, 2_000, -1, 10, "[c:A]/[m:fail]"));
+
+        @Test
+        void 합계와_상위_목록은_테스트_행만_집계한다() {
+            TestProfileReport report = TestProfileReport.of(PROFILES);
+
+            assertThat(report.tests()).isEqualTo(3);
+            assertThat(report.totalWallMillis()).isEqualTo(5_003);
+            assertThat(report.totalCpuMillis()).isEqualTo(4_000);
+            assertThat(report.slowest()).extracting(TestProfile::test).first().isEqualTo("느린 테스트");
+            assertThat(report.mostAllocating()).extracting(TestProfile::test).first().isEqualTo("[1] a, \"b\"");
+        }
+
+        @Test
+        void CSV는_uniqueId_순서이고_쉼표와_따옴표를_이스케이프한다() {
+            String csv = TestProfileReportWriter.toCsv(TestProfileReport.of(PROFILES));
+
+            assertThat(csv.lines())
+                    .containsExactly(
+                            TestProfileReportWriter.CSV_HEADER,
+                            "CLASS,A,,false,9000000,-1,-1,[c:A]",
+                            "TEST,A,실패,true,2000,-1,10,[c:A]/[m:fail]",
+                            "TEST,A,\"[1] a, \"\"b\"\"\",false,1000,900,50000000,[c:A]/[t:p]/[i:1]",
+                            "TEST,B,느린 테스트,false,5000000,4000000,1000,[c:B]/[m:slow]");
+        }
+    }
+}
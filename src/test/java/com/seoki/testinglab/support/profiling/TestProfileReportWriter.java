@@ -0,0 +1,88 @@
+package com.seoki.testinglab.support.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.seoki.testinglab.support.profiling.TestProfileRecorder.TestProfile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * 테스트 실행이 끝나면 테스트 프로파일을 JSON/CSV로 저장
+ *
+ * - 위치: build/reports/test-profile/ (시스템 프로퍼티 testinglab.test-profile.dir로 변경)
+ * - 두 커밋의 tests.csv를 diff하면 느려지거나 할당이 늘어난 테스트가 보임
+ *
+ * 등록: META-INF/services/org.junit.platform.launcher.TestExecutionListener
+ */
+public class TestProfileReportWriter implements TestExecutionListener {
+
+    static final String REPORT_DIR_PROPERTY = "testinglab.test-profile.dir";
+
+    static final String DEFAULT_REPORT_DIR = "build/reports/test-profile";
+
+    static final String CSV_HEADER = "kind,testClass,test,failed,wallMicros,cpuMicros,allocatedBytes,uniqueId";
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        TestProfileReport report = TestProfileReport.of(TestProfileRecorder.get().profiles());
+        if (report.profiles().isEmpty()) {
+            return;
+        }
+
+        Path dir = Path.of(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+        try {
+            Files.createDirectories(dir);
+            new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve("tests.json").toFile(), report);
+            Files.writeString(dir.resolve("tests.csv"), toCsv(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.printf(
+                "[test-profile] 테스트 %d개: 벽시계 %,dms, CPU %,dms, 할당 %,dMB → %s%n",
+                report.tests(),
+                report.totalWallMillis(),
+                report.totalCpuMillis(),
+                report.totalAllocatedBytes() / (1024 * 1024),
+                dir.toAbsolutePath());
+    }
+
+    static String toCsv(TestProfileReport report) {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (TestProfile profile : report.profiles()) {
+            csv.append(profile.kind())
+                    .append(',')
+                    .append(escape(profile.testClass()))
+                    .append(',')
+                    .append(escape(profile.test()))
+                    .append(',')
+                    .append(profile.failed())
+                    .append(',')
+                    .append(profile.wallMicros())
+                    .append(',')
+                    .append(profile.cpuMicros())
+                    .append(',')
+                    .append(profile.allocatedBytes())
+                    .append(',')
+                    .append(escape(profile.uniqueId()))
+                    .append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+     * (@ParameterizedTest 표시 이름에 인자가 그대로 들어감)
+     */
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,67 @@
+package com.seoki.testinglab.support.profiling;
+
+import com.seoki.testinglab.support.profiling.TestProfileRecorder.Kind;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * 테스트마다 벽시계 시간, CPU 시간, 할당 바이트를 기록하는 확장
+ *
+ * - 테스트: BeforeTestExecution ~ AfterTestExecution (테스트 스레드 기준)
+ * - 클래스: BeforeAll ~ AfterAll → @ParameterizedTest 인자 공급자, 컨텍스트 로드처럼 테스트 본문 밖의 비용
+ * - 클래스 행의 CPU/할당은 클래스를 실행한 스레드 기준
+ *   → 병렬 실행에서는 BeforeAll과 AfterAll이 다른 ForkJoin 스레드에서 불릴 수 있음 → 그러면 -1로 기록
+ *   → 하위 테스트가 다른 스레드에서 돌면 그 사용량도 빠짐 (-PtestExecutionMode=same_thread로 측정)
+ *
+ * 등록: META-INF/services/org.junit.jupiter.api.extension.Extension
+ *       + junit-platform.properties의 junit.jupiter.extensions.autodetection.enabled=true
+ */
+public class TestProfilingExtension
+        implements BeforeAllCallback, AfterAllCallback, BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(TestProfilingExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        start(context);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        finish(context, Kind.CLASS);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        start(context);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        finish(context, Kind.TEST);
+    }
+
+    private static void start(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), ThreadUsage.now());
+    }
+
+    private static void finish(ExtensionContext context, Kind kind) {
+        ThreadUsage end = ThreadUsage.now();
+        ThreadUsage start = context.getStore(NAMESPACE).remove(context.getUniqueId(), ThreadUsage.class);
+        if (start == null) {
+            return;
+        }
+        TestProfileRecorder.get()
+                .record(
+                        context.getUniqueId(),
+                        context.getRequiredTestClass().getName(),
+                        kind == Kind.CLASS ? "" : context.getDisplayName(),
+                        kind,
+                        context.getExecutionException().isPresent(),
+                        end.since(start));
+    }
+}
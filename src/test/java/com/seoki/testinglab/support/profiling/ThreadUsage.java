@@ -0,0 +1,71 @@
+package com.seoki.testinglab.support.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 현재 스레드의 자원 사용량 스냅샷
+ *
+ * - wall: System.nanoTime
+ * - cpu: ThreadMXBean.getCurrentThreadCpuTime (지원하지 않는 JVM이면 -1)
+ * - 할당: com.sun.management.ThreadMXBean.getCurrentThreadAllocatedBytes (지원하지 않으면 -1)
+ * - 같은 스레드에서 잰 두 스냅샷의 차이만 의미 있음 → 다른 스레드에 넘긴 작업은 포함되지 않음
+ * - 시작과 끝의 스레드가 다르면 CPU/할당 차이는 -1 (스레드별 누적값끼리 빼면 음수가 나올 수도 있음)
+ */
+record ThreadUsage(long threadId, long wallNanos, long cpuNanos, long allocatedBytes) {
+
+    static final long UNSUPPORTED = -1;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final boolean CPU_TIME_ENABLED = enableCpuTime();
+
+    private static final boolean ALLOCATION_ENABLED = enableAllocatedMemory();
+
+    static ThreadUsage now() {
+        return new ThreadUsage(
+                Thread.currentThread().threadId(),
+                System.nanoTime(),
+                CPU_TIME_ENABLED ? THREADS.getCurrentThreadCpuTime() : UNSUPPORTED,
+                ALLOCATION_ENABLED
+                        ? ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes()
+                        : UNSUPPORTED);
+    }
+
+    /**
+     * start 이후 사용량 (this - start)
+     */
+    ThreadUsage since(ThreadUsage start) {
+        boolean sameThread = threadId == start.threadId;
+        return new ThreadUsage(
+                threadId,
+                wallNanos - start.wallNanos,
+                sameThread ? difference(cpuNanos, start.cpuNanos) : UNSUPPORTED,
+                sameThread ? difference(allocatedBytes, start.allocatedBytes) : UNSUPPORTED);
+    }
+
+    private static long difference(long end, long start) {
+        return end == UNSUPPORTED || start == UNSUPPORTED ? UNSUPPORTED : end - start;
+    }
+
+    private static boolean enableCpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        if (!THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+        return true;
+    }
+
+    private static boolean enableAllocatedMemory() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+}
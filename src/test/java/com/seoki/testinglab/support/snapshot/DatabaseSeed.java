@@ -0,0 +1,24 @@
+package com.seoki.testinglab.support.snapshot;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link DatabaseSnapshot}이 스냅샷을 뜨기 전에 한 번 실행하는 데이터 적재
+ *
+ * - 기본 생성자로 만듦 (static 중첩 클래스 또는 최상위 클래스)
+ * - 같은 시드 클래스를 쓰는 테스트 클래스는 적재 결과(스냅샷)를 공유
+ */
+@FunctionalInterface
+public interface DatabaseSeed {
+
+    void seed(JdbcTemplate jdbcTemplate);
+
+    /**
+     * 데이터 없이 스키마만 (다른 클래스의 커밋으로부터 격리만 필요할 때)
+     */
+    final class None implements DatabaseSeed {
+
+        @Override
+        public void seed(JdbcTemplate jdbcTemplate) {}
+    }
+}
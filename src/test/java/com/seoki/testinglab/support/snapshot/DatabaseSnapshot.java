@@ -0,0 +1,43 @@
+package com.seoki.testinglab.support.snapshot;
+
+import com.seoki.testinglab.support.parallel.SharedResources;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 테스트 트랜잭션 롤백 대신 H2 스냅샷 복원으로 테스트 클래스를 격리
+ *
+ * - 테스트 트랜잭션을 끔 (NOT_SUPPORTED) → 저장이 실제로 커밋되고 커밋 시점 동작(이벤트, 제약, 카운터)이 실행됨
+ * - 시드 적재는 처음 한 번만 하고 SCRIPT로 스냅샷 → 이후 테스트 클래스 시작 전마다 RUNSCRIPT로 복원
+ * - 같은 클래스의 테스트끼리는 커밋이 누적됨 (복원은 클래스 단위)
+ * - 별도 프로퍼티로 캐시 키를 바꿔 전용 컨텍스트(= 전용 내장 DB) 사용 → 다른 @DataJpaTest의 DB는 건드리지 않음
+ * - 복원 후 2차 캐시를 비움 (빈이 직접 캐싱한 값은 테스트에서 다시 맞춤)
+ *
+ * 사용 예:
+ * <pre>
+ * &#64;DataJpaTest
+ * &#64;DatabaseSnapshot(seed = MillionMembers.class)
+ * class MemberQueryTest { ... }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "testinglab.database-snapshot=true")
+@ResourceLock(SharedResources.H2_DATASOURCE)
+@ExtendWith(DatabaseSnapshotExtension.class)
+public @interface DatabaseSnapshot {
+
+    Class<? extends DatabaseSeed> seed() default DatabaseSeed.None.class;
+}
@@ -0,0 +1,43 @@
+package com.seoki.testinglab.support.snapshot;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * 테스트 클래스 시작 전에 스냅샷을 복원 ({@link DatabaseSnapshot}이 등록)
+ *
+ * - @Nested 클래스도 각자 복원 (바깥 클래스의 @DatabaseSnapshot 설정을 따름)
+ * - Hibernate 캐시만 비움 → 애플리케이션 빈이 DB를 읽어 캐싱한 값(카운터 등)은 테스트가 직접 다시 맞춤
+ */
+class DatabaseSnapshotExtension implements BeforeAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        DatabaseSnapshot snapshot = findSnapshot(context.getRequiredTestClass());
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        DataSource dataSource = applicationContext.getBean(DataSource.class);
+
+        H2Snapshots.restore(dataSource, snapshot.seed());
+
+        // DB가 통째로 바뀌었으므로 Hibernate 2차 캐시/쿼리 캐시의 내용은 모두 낡은 값
+        applicationContext.getBeansOfType(EntityManagerFactory.class).values().forEach(entityManagerFactory ->
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions());
+    }
+
+    private static DatabaseSnapshot findSnapshot(Class<?> testClass) {
+        for (Class<?> type = testClass; type != null; type = type.getEnclosingClass()) {
+            Optional<DatabaseSnapshot> found = AnnotationSupport.findAnnotation(type, DatabaseSnapshot.class);
+            if (found.isPresent()) {
+                return found.get();
+            }
+        }
+        throw new IllegalStateException("@DatabaseSnapshot not found on " + testClass.getName());
+    }
+}
@@ -0,0 +1,119 @@
+package com.seoki.testinglab.support.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.sql.DataSource;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2 SCRIPT/RUNSCRIPT 기반 스냅샷
+ *
+ * - 스냅샷: SCRIPT TO 파일 (스키마 + 데이터, LZF 압축) → 시드 클래스마다 한 번
+ * - 복원: DROP ALL OBJECTS → RUNSCRIPT FROM 파일
+ * - 이 DB에서 처음 호출될 때의 상태(Hibernate가 만든 빈 스키마)를 기준 스냅샷으로 저장
+ *   → 새 시드는 기준 스냅샷으로 되돌린 뒤 적재하므로 이전 시드의 데이터가 섞이지 않음
+ *
+ * 시퀀스는 되감지 않음:
+ * - Hibernate pooled 옵티마이저는 시퀀스에서 받은 id 범위를 메모리에 들고 있음
+ * - 시퀀스만 스냅샷 값으로 돌아가면 같은 범위를 다시 받아 id가 중복될 수 있음
+ * - 복원 전 값이 더 크면 그 값으로 RESTART (IDENTITY 컬럼은 DB가 채우므로 되감아도 안전)
+ */
+final class H2Snapshots {
+
+    // DataSource(= 컨텍스트의 내장 DB)별 시드 클래스 → 스냅샷 파일, 컨텍스트가 닫혀 DataSource가 수거되면 함께 제거
+    private static final Map<DataSource, Map<Class<?>, Path>> SNAPSHOTS = new WeakHashMap<>();
+
+    private H2Snapshots() {}
+
+    static synchronized void restore(DataSource dataSource, Class<? extends DatabaseSeed> seed) {
+        Map<Class<?>, Path> snapshots = SNAPSHOTS.computeIfAbsent(dataSource, ignored -> new HashMap<>());
+        Path snapshot = snapshots.get(seed);
+        if (snapshot != null) {
+            runScript(dataSource, snapshot);
+            return;
+        }
+
+        Path empty = snapshots.get(DatabaseSeed.None.class);
+        if (empty == null) {
+            snapshots.put(DatabaseSeed.None.class, script(dataSource));
+        } else {
+            runScript(dataSource, empty);
+        }
+        if (seed != DatabaseSeed.None.class) {
+            BeanUtils.instantiateClass(seed).seed(new JdbcTemplate(dataSource));
+            snapshots.put(seed, script(dataSource));
+        }
+    }
+
+    private static Path script(DataSource dataSource) {
+        Path file = createTempFile();
+        execute(dataSource, statement -> statement.execute("SCRIPT NOPASSWORDS NOSETTINGS TO " + literal(file)
+                + " COMPRESSION LZF CHARSET 'UTF-8'"));
+        return file;
+    }
+
+    private static void runScript(DataSource dataSource, Path file) {
+        execute(dataSource, statement -> {
+            Map<String, Long> before = sequenceValues(statement);
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("RUNSCRIPT FROM " + literal(file) + " COMPRESSION LZF CHARSET 'UTF-8'");
+            Map<String, Long> after = sequenceValues(statement);
+            for (Map.Entry<String, Long> sequence : after.entrySet()) {
+                Long previous = before.get(sequence.getKey());
+                if (previous != null && previous > sequence.getValue()) {
+                    statement.execute("ALTER SEQUENCE " + sequence.getKey() + " RESTART WITH " + previous);
+                }
+            }
+        });
+    }
+
+    private static Map<String, Long> sequenceValues(Statement statement) throws SQLException {
+        Map<String, Long> values = new HashMap<>();
+        try (ResultSet resultSet = statement.executeQuery(
+                "SELECT SEQUENCE_SCHEMA, SEQUENCE_NAME, BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES")) {
+            while (resultSet.next()) {
+                values.put(
+                        '"' + resultSet.getString(1) + "\".\"" + resultSet.getString(2) + '"', resultSet.getLong(3));
+            }
+        }
+        return values;
+    }
+
+    private static void execute(DataSource dataSource, SqlAction action) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            action.run(statement);
+        } catch (SQLException e) {
+            throw new IllegalStateException("H2 snapshot failed", e);
+        }
+    }
+
+    private static Path createTempFile() {
+        try {
+            Path file = Files.createTempFile("testinglab-snapshot", ".sql.lzf");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String literal(Path file) {
+        return "'" + file.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run(Statement statement) throws SQLException;
+    }
+}
@@ -0,0 +1,38 @@
+package com.seoki.testinglab.support.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 테스트 본문에서 실행한 SQL 문을 세고 {@link StatementAssert#assertThatStatements()}로 검증
+ *
+ * - DataSource를 datasource-proxy로 감싸서 JDBC 수준에서 기록 → JPA, JdbcTemplate 모두 포함
+ * - 테스트 본문 직전에 기록을 비움 → @BeforeEach에서 넣은 데이터는 세지 않음
+ * - @Import가 캐시 키에 들어가므로 이 어노테이션을 붙인 설정은 별도 컨텍스트
+ *
+ * 사용 예:
+ * <pre>
+ * &#64;DataJpaTest
+ * &#64;CountStatements
+ * class MemberQueryTest {
+ *     &#64;Test
+ *     void 조회는_SELECT_한_번() {
+ *         memberRepository.findByNameStartingWith("김");
+ *         assertThatStatements().selects(1).inserts(0);
+ *     }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(StatementCountingConfiguration.class)
+@ExtendWith(StatementCountingExtension.class)
+public @interface CountStatements {}
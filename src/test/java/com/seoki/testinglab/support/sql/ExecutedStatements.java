@@ -0,0 +1,61 @@
+package com.seoki.testinglab.support.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 현재 스레드에서 실행한 SQL 기록
+ *
+ * - 스레드별로 따로 기록 → 병렬 실행 중인 다른 테스트의 SQL이 섞이지 않음
+ * - 다른 스레드(@Async, 비동기 큐)에서 실행한 SQL은 세지 않음
+ */
+public final class ExecutedStatements {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    private ExecutedStatements() {}
+
+    /**
+     * 기록을 비움 (테스트 본문 중간부터 세고 싶을 때)
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> list() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    static void record(String sql) {
+        STATEMENTS.get().add(sql);
+    }
+
+    enum Type {
+        SELECT,
+        INSERT,
+        UPDATE,
+        DELETE,
+        OTHER;
+
+        /**
+         * 첫 키워드로 구분 (WITH ... SELECT는 SELECT, MERGE/CALL/DDL은 OTHER)
+         */
+        static Type of(String sql) {
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("with")) {
+                return SELECT;
+            }
+            if (statement.startsWith("insert")) {
+                return INSERT;
+            }
+            if (statement.startsWith("update")) {
+                return UPDATE;
+            }
+            if (statement.startsWith("delete")) {
+                return DELETE;
+            }
+            return OTHER;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.seoki.testinglab.support.sql;
+
+import com.seoki.testinglab.support.sql.ExecutedStatements.Type;
+import java.util.List;
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * 실행한 SQL 문 수 검증 (AssertJ 스타일)
+ *
+ * - assertThatStatements().selects(1).inserts(0)
+ * - 실패 메시지에 실행한 SQL 전체를 출력 → N+1이면 같은 SELECT가 반복되는 것이 바로 보임
+ */
+public class StatementAssert extends AbstractAssert<StatementAssert, List<String>> {
+
+    private StatementAssert(List<String> statements) {
+        super(statements, StatementAssert.class);
+    }
+
+    /**
+     * 호출한 시점까지 현재 스레드에서 실행한 SQL 기준
+     */
+    public static StatementAssert assertThatStatements() {
+        return new StatementAssert(ExecutedStatements.list());
+    }
+
+    public StatementAssert selects(int expected) {
+        return hasCount(Type.SELECT, expected);
+    }
+
+    public StatementAssert inserts(int expected) {
+        return hasCount(Type.INSERT, expected);
+    }
+
+    public StatementAssert updates(int expected) {
+        return hasCount(Type.UPDATE, expected);
+    }
+
+    public StatementAssert deletes(int expected) {
+        return hasCount(Type.DELETE, expected);
+    }
+
+    public StatementAssert total(int expected) {
+        isNotNull();
+        if (actual.size() != expected) {
+            failWithMessage("Expected %d statements but %d were executed:%n%s", expected, actual.size(), listing());
+        }
+        return this;
+    }
+
+    private StatementAssert hasCount(Type type, int expected) {
+        isNotNull();
+        long count = actual.stream().filter(sql -> Type.of(sql) == type).count();
+        if (count != expected) {
+            failWithMessage("Expected %d %s statements but %d were executed:%n%s", expected, type, count, listing());
+        }
+        return this;
+    }
+
+    private String listing() {
+        if (actual.isEmpty()) {
+            return "  (none)";
+        }
+        StringBuilder listing = new StringBuilder();
+        for (int i = 0; i < actual.size(); i++) {
+            listing.append(String.format("  %d. %s%n", i + 1, actual.get(i)));
+        }
+        return listing.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.seoki.testinglab.support.sql;
+
+import static com.seoki.testinglab.support.sql.StatementAssert.assertThatStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.seoki.testinglab.support.sql.ExecutedStatements.Type;
+import org.junit.jupiter.api.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StatementAssertTest {
+
+    @BeforeEach
+    void setUp() {
+        ExecutedStatements.reset();
+    }
+
+    @Test
+    void 첫_키워드로_문장_종류를_구분한다() {
+        assertThat(Type.of("  SELECT m1_0.id FROM members m1_0")).isEqualTo(Type.SELECT);
+        assertThat(Type.of("with recent as (select 1) select * from recent")).isEqualTo(Type.SELECT);
+        assertThat(Type.of("insert into members (name) values (?)")).isEqualTo(Type.INSERT);
+        assertThat(Type.of("update members set name=? where id=?")).isEqualTo(Type.UPDATE);
+        assertThat(Type.of("delete from members where id=?")).isEqualTo(Type.DELETE);
+        assertThat(Type.of("call next value for members_seq")).isEqualTo(Type.OTHER);
+    }
+
+    @Test
+    void 종류별_횟수가_맞으면_통과한다() {
+        ExecutedStatements.record("select * from members where id=?");
+        ExecutedStatements.record("insert into members (name) values (?)");
+
+        assertThatStatements().selects(1).inserts(1).updates(0).deletes(0).total(2);
+    }
+
+    @Test
+    void 실패하면_실행한_SQL을_모두_보여준다() {
+        ExecutedStatements.record("select * from members where id=1");
+        ExecutedStatements.record("select * from members where id=2");
+
+        assertThatThrownBy(() -> assertThatStatements().selects(1))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expected 1 SELECT statements but 2 were executed")
+                .hasMessageContaining("1. select * from members where id=1")
+                .hasMessageContaining("2. select * from members where id=2");
+    }
+}
@@ -0,0 +1,50 @@
+package com.seoki.testinglab.support.sql;
+
+import java.util.List;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 컨텍스트의 DataSource를 실행한 SQL을 기록하는 프록시로 감쌈
+ *
+ * - 초기화가 끝난 DataSource를 감싸므로 @AutoConfigureTestDatabase가 바꿔 끼운 내장 DB도 대상
+ * - PreparedStatement 일괄 실행은 DB 왕복 한 번 = 한 건으로 기록
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class StatementCountingConfiguration {
+
+    // 다른 빈보다 먼저 만들어져야 하는 BeanPostProcessor → static
+    @Bean
+    static BeanPostProcessor statementCountingDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new RecordingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static final class RecordingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {}
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {
+            queries.forEach(query -> ExecutedStatements.record(query.getQuery()));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.seoki.testinglab.support.sql;
+
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * 테스트 본문 직전에 SQL 기록을 비우는 확장 ({@link CountStatements}가 등록)
+ *
+ * - @BeforeEach가 끝난 뒤라 준비 데이터 INSERT는 세지 않음
+ * - 스레드 풀 스레드에 남은 이전 테스트의 기록도 여기서 지워짐
+ */
+class StatementCountingExtension implements BeforeTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        ExecutedStatements.reset();
+    }
+}